@@ -0,0 +1,212 @@
+package org.tinyconfiguration.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.tinyconfiguration.abc.utils.FormatType;
+import org.tinyconfiguration.imp.basic.Configuration;
+import org.tinyconfiguration.imp.basic.Property;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ConfigurationBenchmark} class measures {@link Configuration#read(FormatType)} and {@link Configuration#write(FormatType)}
+ * on every {@link FormatType} and {@link Configuration.Engine}, run it with {@code -prof gc} to profile the allocations.
+ * With 10000 scalar properties the files are around 1 MiB, the size from which they are memory-mapped while reading.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConfigurationBenchmark {
+
+    /**
+     * The length of each array value
+     */
+    private static final int ARRAY_LENGTH = 256;
+
+    /**
+     * The length of each text value
+     */
+    private static final int TEXT_LENGTH = 32;
+
+    /**
+     * The characters which must be escaped by at least one of the formats
+     */
+    private static final char[] ESCAPED = {'"', '\\', '\n', '\t', ',', '<', '>', '&'};
+
+    @Param({"JSON", "XML", "YAML", "CSV"})
+    private FormatType format;
+
+    @Param({"DOM", "STREAM"})
+    private Configuration.Engine engine;
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int properties;
+
+    @Param({"SCALAR", "ARRAY"})
+    private Values values;
+
+    /**
+     * The fraction of characters inside the text values which must be escaped
+     */
+    @Param({"0.0", "0.25"})
+    private double escapes;
+
+    private Path directory;
+    private Configuration instance;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+
+        this.directory = Files.createTempDirectory("tiny-configuration-benchmark");
+
+        Configuration.Builder b = new Configuration.Builder().
+                setName("ConfigurationBenchmark").
+                setVersion("1.0.0").
+                setPathname(directory.toString()).
+                setFilename("benchmark." + format.name().toLowerCase()).
+                setEngine(engine);
+
+        // Same seed, same data on each trial
+        Random random = new Random(properties);
+
+        for (int i = 0; i < properties; i++) {
+            b.put(values.create(random, "property-" + i, escapes));
+        }
+
+        this.instance = b.build();
+
+        // The reading benchmark needs the file
+        this.instance.write(format);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+
+        if (instance.exist())
+            instance.delete();
+
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Configuration read() throws Exception {
+        instance.read(format);
+        return instance;
+    }
+
+    @Benchmark
+    public Configuration write() throws IOException {
+        instance.write(format);
+        return instance;
+    }
+
+    /**
+     * Generates a text value of the given length with the requested escape density
+     *
+     * @param random  The random generator
+     * @param length  The text length
+     * @param escapes The fraction of characters to escape
+     * @return The text value
+     */
+    private static String text(Random random, int length, double escapes) {
+
+        StringBuilder sb = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+
+            if (random.nextDouble() < escapes)
+                sb.append(ESCAPED[random.nextInt(ESCAPED.length)]);
+            else
+                sb.append((char) ('a' + random.nextInt(26)));
+
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * The kind of values stored inside the properties
+     */
+    public enum Values {
+
+        /**
+         * Text, numeric and boolean values, cycling on each property
+         */
+        SCALAR {
+            @Override
+            Property create(Random random, String key, double escapes) {
+
+                Property.Builder b = new Property.Builder().setKey(key).setDescription(text(random, TEXT_LENGTH, escapes));
+
+                switch (random.nextInt(3)) {
+                    case 0:
+                        b.setValue(text(random, TEXT_LENGTH, escapes));
+                        break;
+                    case 1:
+                        b.setValue(random.nextLong());
+                        break;
+                    default:
+                        b.setValue(random.nextBoolean());
+                        break;
+                }
+
+                return b.build();
+            }
+        },
+
+        /**
+         * Large primitive arrays, integers and doubles alternated on each property
+         */
+        ARRAY {
+            @Override
+            Property create(Random random, String key, double escapes) {
+
+                Property.Builder b = new Property.Builder().setKey(key).setDescription(text(random, TEXT_LENGTH, escapes));
+
+                if (random.nextBoolean()) {
+
+                    int[] tmp = new int[ARRAY_LENGTH];
+
+                    for (int i = 0; i < tmp.length; i++) {
+                        tmp[i] = random.nextInt();
+                    }
+
+                    b.setValue(tmp);
+
+                } else {
+
+                    double[] tmp = new double[ARRAY_LENGTH];
+
+                    for (int i = 0; i < tmp.length; i++) {
+                        tmp[i] = random.nextDouble();
+                    }
+
+                    b.setValue(tmp);
+                }
+
+                return b.build();
+            }
+        };
+
+        /**
+         * Creates a new property
+         *
+         * @param random  The random generator
+         * @param key     The property key
+         * @param escapes The fraction of characters to escape inside the text
+         * @return The new {@link Property}
+         */
+        abstract Property create(Random random, String key, double escapes);
+
+    }
+
+}
@@ -25,6 +25,13 @@ public interface AbstractCollection {
      */
     boolean isEmpty();
 
+    /**
+     * Returns how many values are stored inside the container.
+     *
+     * @return The number of values
+     */
+    int size();
+
     /**
      * Remove all values stored by the container.
      */
@@ -1,14 +1,18 @@
 package org.tinyconfiguration.abc;
 
 
+import org.tinyconfiguration.abc.utils.IOExecutors;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * The {@link AbstractConfiguration} is the base class used to define any configuration data structure
@@ -23,6 +27,7 @@ public abstract class AbstractConfiguration<T extends AbstractProperty> implemen
     protected final String pathname;
     protected final File file;
     protected final String version;
+    protected final Executor executor;
 
 
     /**
@@ -34,6 +39,7 @@ public abstract class AbstractConfiguration<T extends AbstractProperty> implemen
         this.pathname = null;
         this.file = null;
         this.version = null;
+        this.executor = IOExecutors.common();
     }
 
     /**
@@ -45,11 +51,25 @@ public abstract class AbstractConfiguration<T extends AbstractProperty> implemen
      * @param pathname The configuration pathname
      */
     protected AbstractConfiguration(String name, String version, String filename, String pathname) {
+        this(name, version, filename, pathname, IOExecutors.common());
+    }
+
+    /**
+     * Protected container constructor with parameters
+     *
+     * @param name     The configuration name
+     * @param version  The configuration version
+     * @param filename The configuration filename
+     * @param pathname The configuration pathname
+     * @param executor The executor running the asynchronous operations
+     */
+    protected AbstractConfiguration(String name, String version, String filename, String pathname, Executor executor) {
         this.name = name;
         this.version = version;
         this.filename = filename;
         this.pathname = pathname;
         this.file = Paths.get(pathname, filename).toFile();
+        this.executor = executor;
     }
 
     /**
@@ -97,6 +117,15 @@ public abstract class AbstractConfiguration<T extends AbstractProperty> implemen
         return file;
     }
 
+    /**
+     * Gets the executor.
+     *
+     * @return The {@link Executor} running the asynchronous operations of the container object.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
     /**
      * Gets the properties.
      *
@@ -104,6 +133,30 @@ public abstract class AbstractConfiguration<T extends AbstractProperty> implemen
      */
     public abstract List<T> getProperties();
 
+    /**
+     * Gets the properties without copying them.
+     *
+     * @return The properties associated to the container object as unmodifiable {@link Collection}
+     */
+    public abstract Collection<T> getPropertiesView();
+
+    /**
+     * Performs the given action on each property, without copying them
+     *
+     * @param action The action to perform
+     * @throws NullPointerException If the action is null
+     */
+    public void forEachProperty(Consumer<? super T> action) {
+
+        if (action == null)
+            throw new NullPointerException("The action cannot be null");
+
+        for (T property : getPropertiesView()) {
+            action.accept(property);
+        }
+
+    }
+
     /**
      * Delete the configuration file
      *
@@ -118,7 +171,17 @@ public abstract class AbstractConfiguration<T extends AbstractProperty> implemen
      *
      * @return Future object representing the deleting task
      */
-    public Future<Void> deleteAsync() {
+    public CompletableFuture<Void> deleteAsync() {
+        return deleteAsync(executor);
+    }
+
+    /**
+     * Delete the configuration file asynchronously
+     *
+     * @param executor The executor running the deleting task
+     * @return Future object representing the deleting task
+     */
+    public CompletableFuture<Void> deleteAsync(Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 delete();
@@ -126,7 +189,7 @@ public abstract class AbstractConfiguration<T extends AbstractProperty> implemen
                 throw new CompletionException(e);
             }
             return null;
-        });
+        }, executor);
     }
 
     /**
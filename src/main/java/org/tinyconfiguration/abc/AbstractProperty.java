@@ -1,6 +1,6 @@
 package org.tinyconfiguration.abc;
 
-import org.tinyconfiguration.abc.data.Value;
+import org.tinyconfiguration.abc.data.*;
 import org.tinyconfiguration.abc.data.base.Modifiable;
 
 /**
@@ -12,7 +12,7 @@ import org.tinyconfiguration.abc.data.base.Modifiable;
 public abstract class AbstractProperty implements Modifiable {
 
     protected final String key;
-    protected Value value;
+    protected volatile Value value;
     protected final String description;
 
     /**
@@ -76,7 +76,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(boolean b) {
-        set(b);
+        if (this.value instanceof BooleanValue && this.value.isMutable())
+            ((BooleanValue) this.value).set(b);
+        else
+            set(new BooleanValue(b));
     }
 
     /**
@@ -88,7 +91,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(char c) {
-        set(c);
+        if (this.value instanceof CharValue && this.value.isMutable())
+            ((CharValue) this.value).set(c);
+        else
+            set(new CharValue(c));
     }
 
     /**
@@ -100,7 +106,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(byte b) {
-        set(b);
+        if (this.value instanceof ByteValue && this.value.isMutable())
+            ((ByteValue) this.value).set(b);
+        else
+            set(new ByteValue(b));
     }
 
     /**
@@ -112,7 +121,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(short s) {
-        set(s);
+        if (this.value instanceof ShortValue && this.value.isMutable())
+            ((ShortValue) this.value).set(s);
+        else
+            set(new ShortValue(s));
     }
 
     /**
@@ -124,7 +136,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(int i) {
-        set(i);
+        if (this.value instanceof IntValue && this.value.isMutable())
+            ((IntValue) this.value).set(i);
+        else
+            set(new IntValue(i));
     }
 
     /**
@@ -136,7 +151,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(long l) {
-        set(l);
+        if (this.value instanceof LongValue && this.value.isMutable())
+            ((LongValue) this.value).set(l);
+        else
+            set(new LongValue(l));
     }
 
     /**
@@ -148,7 +166,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(float f) {
-        set(f);
+        if (this.value instanceof FloatValue && this.value.isMutable())
+            ((FloatValue) this.value).set(f);
+        else
+            set(new FloatValue(f));
     }
 
     /**
@@ -160,7 +181,10 @@ public abstract class AbstractProperty implements Modifiable {
      */
     @Override
     public final void setValue(double d) {
-        set(d);
+        if (this.value instanceof DoubleValue && this.value.isMutable())
+            ((DoubleValue) this.value).set(d);
+        else
+            set(new DoubleValue(d));
     }
 
     /**
@@ -287,4 +311,11 @@ public abstract class AbstractProperty implements Modifiable {
      */
     abstract protected void set(Object value);
 
+    /**
+     * Sets an already built value on this property, primitive values are never boxed on this path
+     *
+     * @param value The new value
+     */
+    abstract protected void set(Value value);
+
 }
@@ -0,0 +1,91 @@
+package org.tinyconfiguration.abc.data;
+
+import static java.lang.String.valueOf;
+
+/**
+ * The {@link BooleanValue} holds a {@code boolean} value without boxing it
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class BooleanValue extends Value {
+
+    private final boolean mutable;
+    private volatile boolean value;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param value The data to store
+     */
+    public BooleanValue(boolean value) {
+        this(value, false);
+    }
+
+    /**
+     * Constructor with parameters
+     *
+     * @param value   The data to store
+     * @param mutable If true the data can be updated in place
+     */
+    public BooleanValue(boolean value, boolean mutable) {
+        super(Boolean.class, Datatype.BOOLEAN);
+        this.mutable = mutable;
+        this.value = value;
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The boolean value contained by the property
+     */
+    @Override
+    public boolean asBoolean() {
+        return this.value;
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The {@link String} value contained by the property
+     */
+    @Override
+    public String asString() {
+        return valueOf(this.value);
+    }
+
+    /**
+     * Returns the current value as a single element array
+     *
+     * @return The {@link String} array contained by the property
+     */
+    @Override
+    public String[] asStringArray() {
+        return new String[]{valueOf(this.value)};
+    }
+
+    /**
+     * Check if the data can be updated in place
+     *
+     * @return True or false
+     */
+    @Override
+    public boolean isMutable() {
+        return this.mutable;
+    }
+
+    /**
+     * Updates the data in place, without allocating a new value
+     *
+     * @param value The new data
+     * @throws UnsupportedOperationException If the value is not mutable
+     */
+    public void set(boolean value) {
+
+        if (!this.mutable)
+            throw new UnsupportedOperationException("The value cannot be updated in place");
+
+        this.value = value;
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.tinyconfiguration.abc.data;
+
+import static java.lang.String.valueOf;
+
+/**
+ * The {@link DoubleValue} holds a {@code double} value without boxing it
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class DoubleValue extends Value {
+
+    private final boolean mutable;
+    private volatile double value;
+
+    /**
+     * Constructor with parameters
+     *
+     * @param value The data to store
+     */
+    public DoubleValue(double value) {
+        this(value, false);
+    }
+
+    /**
+     * Constructor with parameters
+     *
+     * @param value   The data to store
+     * @param mutable If true the data can be updated in place
+     */
+    public DoubleValue(double value, boolean mutable) {
+        super(Double.class, Datatype.DOUBLE);
+        this.mutable = mutable;
+        this.value = value;
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The double value contained by the property
+     */
+    @Override
+    public double asDouble() {
+        return this.value;
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The {@link String} value contained by the property
+     */
+    @Override
+    public String asString() {
+        return valueOf(this.value);
+    }
+
+    /**
+     * Returns the current value as a single element array
+     *
+     * @return The {@link String} array contained by the property
+     */
+    @Override
+    public String[] asStringArray() {
+        return new String[]{valueOf(this.value)};
+    }
+
+    /**
+     * Check if the data can be updated in place
+     *
+     * @return True or false
+     */
+    @Override
+    public boolean isMutable() {
+        return this.mutable;
+    }
+
+    /**
+     * Updates the data in place, without allocating a new value
+     *
+     * @param value The new data
+     * @throws UnsupportedOperationException If the value is not mutable
+     */
+    public void set(double value) {
+
+        if (!this.mutable)
+            throw new UnsupportedOperationException("The value cannot be updated in place");
+
+        this.value = value;
+    }
+
+}
@@ -3,18 +3,58 @@ package org.tinyconfiguration.abc.data;
 import org.tinyconfiguration.abc.data.base.AbstractValue;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.lang.String.valueOf;
 import static org.tinyconfiguration.abc.data.Datatype.*;
 
 /**
  * The {@link Value} is the container class which resolve any {@link AbstractValue} cast.<br>
+ * Primitive values are better stored by the specialized subclasses, such as {@link IntValue}, which never box them.
  *
  * @author G. Baittiner
  * @version 0.1
  */
 public class Value extends AbstractValue {
 
+    /**
+     * The {@link Datatype} of each known class, boxed arrays share the tag of their primitive counterpart
+     */
+    private static final Map<Class<?>, Datatype> TYPES = new HashMap<>();
+
+    static {
+
+        TYPES.put(String.class, STRING);
+        TYPES.put(Character.class, CHAR);
+        TYPES.put(Boolean.class, BOOLEAN);
+        TYPES.put(Byte.class, BYTE);
+        TYPES.put(Short.class, SHORT);
+        TYPES.put(Integer.class, INT);
+        TYPES.put(Long.class, LONG);
+        TYPES.put(Float.class, FLOAT);
+        TYPES.put(Double.class, DOUBLE);
+
+        TYPES.put(String[].class, ARR_STRING);
+        TYPES.put(char[].class, ARR_CHAR);
+        TYPES.put(Character[].class, ARR_CHAR);
+        TYPES.put(boolean[].class, ARR_BOOLEAN);
+        TYPES.put(Boolean[].class, ARR_BOOLEAN);
+        TYPES.put(byte[].class, ARR_BYTE);
+        TYPES.put(Byte[].class, ARR_BYTE);
+        TYPES.put(short[].class, ARR_SHORT);
+        TYPES.put(Short[].class, ARR_SHORT);
+        TYPES.put(int[].class, ARR_INT);
+        TYPES.put(Integer[].class, ARR_INT);
+        TYPES.put(long[].class, ARR_LONG);
+        TYPES.put(Long[].class, ARR_LONG);
+        TYPES.put(float[].class, ARR_FLOAT);
+        TYPES.put(Float[].class, ARR_FLOAT);
+        TYPES.put(double[].class, ARR_DOUBLE);
+        TYPES.put(Double[].class, ARR_DOUBLE);
+
+    }
+
     private Datatype datatype;
 
     /**
@@ -34,6 +74,18 @@ public class Value extends AbstractValue {
         evaluate();
     }
 
+    /**
+     * Protected constructor used by the primitive-specialized values, which do not store any object instance
+     *
+     * @param type     The boxed class of the primitive value
+     * @param datatype The datatype of the primitive value
+     */
+    protected Value(Class<?> type, Datatype datatype) {
+        super();
+        this.type = type;
+        this.datatype = datatype;
+    }
+
     /**
      * Returns the object class
      *
@@ -43,13 +95,41 @@ public class Value extends AbstractValue {
         return super.type;
     }
 
+    /**
+     * Check if the value can be updated in place, only the primitive-specialized values can be
+     *
+     * @return True or false
+     */
+    public boolean isMutable() {
+        return false;
+    }
+
     /**
      * Check if the datatype object is an array type
      *
      * @return true if it's an array otherwise false
      */
     public boolean isArray() {
-        return this.type.isArray();
+
+        if (this.datatype == null)
+            return false;
+
+        switch (this.datatype) {
+            case ARR_BOOLEAN:
+            case ARR_BYTE:
+            case ARR_CHAR:
+            case ARR_DOUBLE:
+            case ARR_FLOAT:
+            case ARR_INT:
+            case ARR_LONG:
+            case ARR_SHORT:
+            case ARR_STRING:
+            case ARR_UNKNOWN:
+                return true;
+            default:
+                return false;
+        }
+
     }
 
     /**
@@ -65,7 +145,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isByte() {
-        return byte.class.isAssignableFrom(this.type) || Byte.class.isAssignableFrom(this.type);
+        return this.datatype == BYTE;
     }
 
     /**
@@ -82,8 +162,7 @@ public class Value extends AbstractValue {
      * @see Value#isByte()
      */
     public boolean isByteArray() {
-        return byte[].class.isAssignableFrom(this.type) ||
-                Byte[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_BYTE;
     }
 
     /**
@@ -99,9 +178,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isShort() {
-        return
-                short.class.isAssignableFrom(this.type) ||
-                        Short.class.isAssignableFrom(this.type);
+        return this.datatype == SHORT;
     }
 
     /**
@@ -118,7 +195,7 @@ public class Value extends AbstractValue {
      * @see Value#isShort()
      */
     public boolean isShortArray() {
-        return short[].class.isAssignableFrom(this.type) || Short[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_SHORT;
     }
 
     /**
@@ -134,7 +211,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isInteger() {
-        return int.class.isAssignableFrom(this.type) || Integer.class.isAssignableFrom(this.type);
+        return this.datatype == INT;
     }
 
     /**
@@ -151,7 +228,7 @@ public class Value extends AbstractValue {
      * @see Value#isInteger()
      */
     public boolean isIntegerArray() {
-        return int[].class.isAssignableFrom(this.type) || Integer[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_INT;
     }
 
     /**
@@ -167,7 +244,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isLong() {
-        return long.class.isAssignableFrom(this.type) || Long.class.isAssignableFrom(this.type);
+        return this.datatype == LONG;
     }
 
     /**
@@ -184,7 +261,7 @@ public class Value extends AbstractValue {
      * @see Value#isLong()
      */
     public boolean isLongArray() {
-        return long[].class.isAssignableFrom(this.type) || Long[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_LONG;
     }
 
     /**
@@ -200,7 +277,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isFloat() {
-        return float.class.isAssignableFrom(this.type) || Float.class.isAssignableFrom(this.type);
+        return this.datatype == FLOAT;
     }
 
     /**
@@ -217,7 +294,7 @@ public class Value extends AbstractValue {
      * @see Value#isFloat()
      */
     public boolean isFloatArray() {
-        return float[].class.isAssignableFrom(this.type) || Float[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_FLOAT;
     }
 
     /**
@@ -233,7 +310,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isDouble() {
-        return double.class.isAssignableFrom(this.type) || Double.class.isAssignableFrom(this.type);
+        return this.datatype == DOUBLE;
     }
 
     /**
@@ -250,7 +327,7 @@ public class Value extends AbstractValue {
      * @see Value#isDouble()
      */
     public boolean isDoubleArray() {
-        return double[].class.isAssignableFrom(this.type) || Double[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_DOUBLE;
     }
 
     /**
@@ -266,7 +343,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isBoolean() {
-        return boolean.class.isAssignableFrom(this.type) || Boolean.class.isAssignableFrom(this.type);
+        return this.datatype == BOOLEAN;
     }
 
     /**
@@ -283,7 +360,7 @@ public class Value extends AbstractValue {
      * @see Value#isBoolean()
      */
     public boolean isBooleanArray() {
-        return boolean[].class.isAssignableFrom(this.type) || Boolean[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_BOOLEAN;
     }
 
     /**
@@ -299,7 +376,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isCharacter() {
-        return char.class.isAssignableFrom(this.type) || Character.class.isAssignableFrom(this.type);
+        return this.datatype == CHAR;
     }
 
     /**
@@ -316,7 +393,7 @@ public class Value extends AbstractValue {
      * @see Value#isCharacter()
      */
     public boolean isCharacterArray() {
-        return char[].class.isAssignableFrom(this.type) || Character[].class.isAssignableFrom(this.type);
+        return this.datatype == ARR_CHAR;
     }
 
     /**
@@ -332,7 +409,7 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isString() {
-        return String.class.isAssignableFrom(this.type) || this.object instanceof CharSequence;
+        return this.datatype == STRING;
     }
 
     /**
@@ -349,7 +426,7 @@ public class Value extends AbstractValue {
      * @see Value#isString()
      */
     public boolean isStringArray() {
-        return String[].class.isAssignableFrom(this.type) || this.object instanceof CharSequence[];
+        return this.datatype == ARR_STRING;
     }
 
     /**
@@ -369,7 +446,22 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isNumeric() {
-        return isByte() || isShort() || isInteger() || isLong() || isFloat() || isDouble();
+
+        if (this.datatype == null)
+            return false;
+
+        switch (this.datatype) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+
     }
 
     /**
@@ -392,7 +484,22 @@ public class Value extends AbstractValue {
      * @see Value#isNumeric()
      */
     public boolean isNumericArray() {
-        return isByteArray() || isShortArray() || isIntegerArray() || isLongArray() || isFloatArray() || isDoubleArray();
+
+        if (this.datatype == null)
+            return false;
+
+        switch (this.datatype) {
+            case ARR_BYTE:
+            case ARR_SHORT:
+            case ARR_INT:
+            case ARR_LONG:
+            case ARR_FLOAT:
+            case ARR_DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+
     }
 
     /**
@@ -408,7 +515,18 @@ public class Value extends AbstractValue {
      * @see Value#isArray()
      */
     public boolean isText() {
-        return isCharacter() || isString();
+
+        if (this.datatype == null)
+            return false;
+
+        switch (this.datatype) {
+            case CHAR:
+            case STRING:
+                return true;
+            default:
+                return false;
+        }
+
     }
 
     /**
@@ -426,7 +544,18 @@ public class Value extends AbstractValue {
      * @see Value#isText()
      */
     public boolean isTextArray() {
-        return isCharacterArray() || isStringArray();
+
+        if (this.datatype == null)
+            return false;
+
+        switch (this.datatype) {
+            case ARR_CHAR:
+            case ARR_STRING:
+                return true;
+            default:
+                return false;
+        }
+
     }
 
     /**
@@ -447,35 +576,50 @@ public class Value extends AbstractValue {
 
         String s = null;
 
-        if (type == String.class) s = (String) object;
-        else if (type == Character.class) s = valueOf(asCharacter());
-        else if (type == Boolean.class) s = valueOf(asBoolean());
-        else if (type == Byte.class) s = valueOf(asByte());
-        else if (type == Short.class) s = valueOf(asShort());
-        else if (type == Integer.class) s = valueOf(asInt());
-        else if (type == Long.class) s = valueOf(asLong());
-        else if (type == Float.class) s = valueOf(asFloat());
-        else if (type == Double.class) s = valueOf(asDouble());
-
-        else if (type == String[].class) s = Arrays.toString(asStringArray());
-        else if (type == Character[].class) s = Arrays.toString(asCharacterArray());
-        else if (type == Boolean[].class) s = Arrays.toString(asBooleanArray());
-        else if (type == Byte[].class) s = Arrays.toString(asByteArray());
-        else if (type == Short[].class) s = Arrays.toString(asShortArray());
-        else if (type == Integer[].class) s = Arrays.toString(asIntArray());
-        else if (type == Long[].class) s = Arrays.toString(asLongArray());
-        else if (type == Float[].class) s = Arrays.toString(asFloatArray());
-        else if (type == Double[].class) s = Arrays.toString(asDoubleArray());
-
-        else if (type == char[].class) s = Arrays.toString(asCharacterArray());
-        else if (type == boolean[].class) s = Arrays.toString(asBooleanArray());
-        else if (type == byte[].class) s = Arrays.toString(asByteArray());
-        else if (type == short[].class) s = Arrays.toString(asShortArray());
-        else if (type == int[].class) s = Arrays.toString(asIntArray());
-        else if (type == long[].class) s = Arrays.toString(asLongArray());
-        else if (type == float[].class) s = Arrays.toString(asFloatArray());
-        else if (type == double[].class) s = Arrays.toString(asDoubleArray());
-
+        if (this.datatype == null)
+            return null;
+
+        switch (this.datatype) {
+            case STRING:
+            case CHAR:
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                s = valueOf(object);
+                break;
+            case ARR_CHAR:
+                // Boxed arrays are tagged as their primitive counterpart
+                s = type == char[].class ? Arrays.toString(asCharacterArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_BOOLEAN:
+                s = type == boolean[].class ? Arrays.toString(asBooleanArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_BYTE:
+                s = type == byte[].class ? Arrays.toString(asByteArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_SHORT:
+                s = type == short[].class ? Arrays.toString(asShortArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_INT:
+                s = type == int[].class ? Arrays.toString(asIntArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_LONG:
+                s = type == long[].class ? Arrays.toString(asLongArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_FLOAT:
+                s = type == float[].class ? Arrays.toString(asFloatArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_DOUBLE:
+                s = type == double[].class ? Arrays.toString(asDoubleArray()) : Arrays.toString((Object[]) object);
+                break;
+            case ARR_STRING:
+                s = Arrays.toString((Object[]) object);
+                break;
+        }
 
         return s;
     }
@@ -561,124 +705,131 @@ public class Value extends AbstractValue {
 
         String[] s = null;
 
-        if (isStringArray()) {
+        if (this.datatype == null)
+            return null;
 
-            s = (String[]) object;
+        switch (this.datatype) {
 
-        } else if (isString()) {
+            case ARR_STRING:
 
-            s = new String[]{(String) object};
+                s = (String[]) object;
+                break;
 
-        } else if (isCharacter()) {
+            case STRING:
+            case CHAR:
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
 
-            s = new String[]{valueOf(object)};
+                s = new String[]{valueOf(object)};
+                break;
 
-        } else if (isCharacterArray()) {
+            case ARR_CHAR: {
 
-            char[] tmp = asCharacterArray();
+                char[] tmp = asCharacterArray();
 
-            s = new String[tmp.length];
+                s = new String[tmp.length];
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Character.toString(tmp[i]);
-            }
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Character.toString(tmp[i]);
+                }
 
-        } else if (isBoolean()) {
+                break;
+            }
 
-            s = new String[]{valueOf(object)};
+            case ARR_BOOLEAN: {
 
-        } else if (isBooleanArray()) {
+                boolean[] tmp = asBooleanArray();
 
-            boolean[] tmp = asBooleanArray();
+                s = new String[tmp.length];
 
-            s = new String[tmp.length];
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Boolean.toString(tmp[i]);
+                }
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Boolean.toString(tmp[i]);
+                break;
             }
 
-        } else if (isByte()) {
+            case ARR_BYTE: {
 
-            s = new String[]{valueOf(object)};
+                byte[] tmp = asByteArray();
 
-        } else if (isByteArray()) {
+                s = new String[tmp.length];
 
-            byte[] tmp = asByteArray();
-
-            s = new String[tmp.length];
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Byte.toString(tmp[i]);
+                }
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Byte.toString(tmp[i]);
+                break;
             }
 
-        } else if (isShort()) {
+            case ARR_SHORT: {
 
-            s = new String[]{valueOf(object)};
+                short[] tmp = asShortArray();
 
-        } else if (isShortArray()) {
+                s = new String[tmp.length];
 
-            short[] tmp = asShortArray();
-
-            s = new String[tmp.length];
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Short.toString(tmp[i]);
+                }
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Short.toString(tmp[i]);
+                break;
             }
 
-        } else if (isInteger()) {
+            case ARR_INT: {
 
-            s = new String[]{valueOf(object)};
+                int[] tmp = asIntArray();
 
-        } else if (isIntegerArray()) {
+                s = new String[tmp.length];
 
-            int[] tmp = asIntArray();
-
-            s = new String[tmp.length];
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Integer.toString(tmp[i]);
+                }
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Integer.toString(tmp[i]);
+                break;
             }
 
-        } else if (isLong()) {
+            case ARR_LONG: {
 
-            s = new String[]{valueOf(object)};
+                long[] tmp = asLongArray();
 
-        } else if (isLongArray()) {
+                s = new String[tmp.length];
 
-            long[] tmp = asLongArray();
-
-            s = new String[tmp.length];
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Long.toString(tmp[i]);
+                }
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Long.toString(tmp[i]);
+                break;
             }
 
-        } else if (isFloat()) {
+            case ARR_FLOAT: {
 
-            s = new String[]{valueOf(object)};
+                float[] tmp = asFloatArray();
 
-        } else if (isFloatArray()) {
+                s = new String[tmp.length];
 
-            float[] tmp = asFloatArray();
-
-            s = new String[tmp.length];
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Float.toString(tmp[i]);
+                }
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Float.toString(tmp[i]);
+                break;
             }
 
-        } else if (isDouble()) {
+            case ARR_DOUBLE: {
 
-            s = new String[]{valueOf(object)};
+                double[] tmp = asDoubleArray();
 
-        } else if (isDoubleArray()) {
+                s = new String[tmp.length];
 
-            double[] tmp = asDoubleArray();
-
-            s = new String[tmp.length];
+                for (int i = 0; i < tmp.length; i++) {
+                    s[i] = Double.toString(tmp[i]);
+                }
 
-            for (int i = 0; i < tmp.length; i++) {
-                s[i] = Double.toString(tmp[i]);
+                break;
             }
 
         }
@@ -760,63 +911,25 @@ public class Value extends AbstractValue {
     }
 
     /**
-     * Identifies and set the datatype
+     * Identifies and set the datatype, only once since the stored object never changes
      */
     private void evaluate() {
-        if (!isArray()) {
-
-            if (isNumeric()) {
-                if (isByte()) {
-                    this.datatype = BYTE;
-                } else if (isShort()) {
-                    this.datatype = SHORT;
-                } else if (isInteger()) {
-                    this.datatype = INT;
-                } else if (isLong()) {
-                    this.datatype = LONG;
-                } else if (isFloat()) {
-                    this.datatype = FLOAT;
-                } else if (isDouble()) {
-                    this.datatype = DOUBLE;
-                }
-            } else if (isText()) {
-                if (isString()) {
-                    this.datatype = STRING;
-                } else if (isCharacter()) {
-                    this.datatype = CHAR;
-                }
-            } else if (isBoolean()) {
-                this.datatype = BOOLEAN;
-            } else {
-                this.datatype = UNKNOWN;
-            }
 
-        } else {
-            if (isNumericArray()) {
-                if (isByteArray()) {
-                    this.datatype = ARR_BYTE;
-                } else if (isShortArray()) {
-                    this.datatype = ARR_SHORT;
-                } else if (isIntegerArray()) {
-                    this.datatype = ARR_INT;
-                } else if (isLongArray()) {
-                    this.datatype = ARR_LONG;
-                } else if (isFloatArray()) {
-                    this.datatype = ARR_FLOAT;
-                } else if (isDoubleArray()) {
-                    this.datatype = ARR_DOUBLE;
-                }
-            } else if (isTextArray()) {
-                if (isStringArray()) {
-                    this.datatype = ARR_STRING;
-                } else if (isCharacterArray()) {
-                    this.datatype = ARR_CHAR;
-                }
-            } else if (isBooleanArray()) {
-                this.datatype = ARR_BOOLEAN;
-            } else {
-                this.datatype = ARR_UNKNOWN;
-            }
+        // Exact classes are resolved with a single lookup
+        Datatype tag = TYPES.get(this.type);
+
+        if (tag == null) {
+
+            // Any other text implementation is still a string
+            if (this.object instanceof CharSequence)
+                tag = STRING;
+            else if (this.object instanceof CharSequence[])
+                tag = ARR_STRING;
+            else
+                tag = this.type.isArray() ? ARR_UNKNOWN : UNKNOWN;
+
         }
+
+        this.datatype = tag;
     }
 }
@@ -3,10 +3,14 @@ package org.tinyconfiguration.abc.io.handlers;
 import org.tinyconfiguration.abc.AbstractConfiguration;
 import org.tinyconfiguration.abc.AbstractProperty;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link AbstractReader} interface provides methods to convert the underlying data representation as common formats
+ * <p>
+ * Implementations are expected to be stateless: anything needed while reading is passed along the calls,
+ * so the same reader can be used by many threads at once.
  *
  * @author G. Baittiner
  * @version 0.1
@@ -21,21 +25,34 @@ public interface AbstractReader<C extends AbstractConfiguration<?>, P extends Ab
      */
     void read(C instance) throws Exception;
 
+    /**
+     * Reads the configuration file asynchronously, using the executor of the configuration instance
+     *
+     * @param instance The configuration instance to read
+     * @return Future object representing the reading task
+     * @see AbstractConfiguration#getExecutor()
+     */
+    default CompletableFuture<Void> readAsync(C instance) {
+        return readAsync(instance, instance.getExecutor());
+    }
+
     /**
      * Reads the configuration file asynchronously
      *
      * @param instance The configuration instance to read
+     * @param executor The executor running the reading task
      * @return Future object representing the reading task
      */
-    Future<Void> readAsync(C instance);
+    CompletableFuture<Void> readAsync(C instance, Executor executor);
 
     /**
      * This method allow to translate a property object inside an intermediate representation
      *
      * @param property The property instance
+     * @param obj      The intermediate object holding the property, it belongs to the current invocation only
      * @throws Exception If the decode process fails
      */
-    void decode(P property) throws Exception;
+    void decode(P property, I obj) throws Exception;
 
     /**
      * This method generate the final representation of the configuration
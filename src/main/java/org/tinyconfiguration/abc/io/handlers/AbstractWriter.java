@@ -3,10 +3,14 @@ package org.tinyconfiguration.abc.io.handlers;
 import org.tinyconfiguration.abc.AbstractConfiguration;
 import org.tinyconfiguration.abc.AbstractProperty;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link AbstractWriter} interface provides methods to convert the underlying data representation as common formats
+ * <p>
+ * Implementations are expected to be stateless: anything needed while writing is passed along the calls,
+ * so the same writer can be used by many threads at once.
  *
  * @author G. Baittiner
  * @version 0.1
@@ -22,21 +26,45 @@ public interface AbstractWriter<C extends AbstractConfiguration<?>, P extends Ab
      */
     void write(C instance) throws Exception;
 
+    /**
+     * Write the configuration file only if its content changed, by default it always writes it
+     *
+     * @param instance The configuration instance to write
+     * @return True if the file was written, false if it already had the same content
+     * @throws Exception If anything goes wrong while processing the file
+     */
+    default boolean writeIfChanged(C instance) throws Exception {
+        write(instance);
+        return true;
+    }
+
+    /**
+     * Write the configuration file asynchronously, using the executor of the configuration instance
+     *
+     * @param instance The configuration instance to write
+     * @return Future object representing the writing task
+     * @see AbstractConfiguration#getExecutor()
+     */
+    default CompletableFuture<Void> writeAsync(C instance) {
+        return writeAsync(instance, instance.getExecutor());
+    }
+
     /**
      * Write the configuration file asynchronously
      *
      * @param instance The configuration instance to write
+     * @param executor The executor running the writing task
      * @return Future object representing the writing task
      */
-    Future<Void> writeAsync(C instance);
+    CompletableFuture<Void> writeAsync(C instance, Executor executor);
 
     /**
      * This method allow to insert a property object inside an intermediate representation
      *
+     * @param root     The container created by the caller for this property
      * @param property The property instance
-     * @return The new representation
      */
-    Object encode(P property);
+    void encode(I root, P property);
 
     /**
      * This method allow to generate an object representation from the configuration instance
@@ -2,7 +2,8 @@ package org.tinyconfiguration.abc.io.utils;
 
 import org.tinyconfiguration.abc.utils.FormatType;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link Readable} interface provides common methods to perform reading operations
@@ -26,5 +27,14 @@ public interface Readable {
      * @param type The configuration instance export type
      * @return Future object representing the reading task
      */
-    Future<Void> readAsync(FormatType type);
+    CompletableFuture<Void> readAsync(FormatType type);
+
+    /**
+     * Reads the configuration file asynchronously
+     *
+     * @param type     The configuration instance export type
+     * @param executor The executor running the reading task
+     * @return Future object representing the reading task
+     */
+    CompletableFuture<Void> readAsync(FormatType type, Executor executor);
 }
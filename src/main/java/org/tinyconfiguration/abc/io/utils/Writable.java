@@ -2,7 +2,8 @@ package org.tinyconfiguration.abc.io.utils;
 
 import org.tinyconfiguration.abc.utils.FormatType;
 
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link Writable} interface provides common methods to perform writing operations
@@ -20,11 +21,29 @@ public interface Writable {
      */
     void write(FormatType type) throws Exception;
 
+    /**
+     * Write the configuration file only if its content changed
+     *
+     * @param type The configuration instance export type
+     * @return True if the file was written, false if it already had the same content
+     * @throws Exception If anything goes wrong while processing the file
+     */
+    boolean writeIfChanged(FormatType type) throws Exception;
+
     /**
      * Write the configuration file asynchronously
      *
      * @param type The configuration instance export type
      * @return Future object representing the writing task
      */
-    Future<Void> writeAsync(FormatType type);
+    CompletableFuture<Void> writeAsync(FormatType type);
+
+    /**
+     * Write the configuration file asynchronously
+     *
+     * @param type     The configuration instance export type
+     * @param executor The executor running the writing task
+     * @return Future object representing the writing task
+     */
+    CompletableFuture<Void> writeAsync(FormatType type, Executor executor);
 }
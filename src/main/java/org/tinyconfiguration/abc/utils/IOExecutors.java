@@ -0,0 +1,180 @@
+package org.tinyconfiguration.abc.utils;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This enum defines the executors which can be used to run the asynchronous I/O operations
+ * away from the common {@link ForkJoinPool}, since they block while accessing the file
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public enum IOExecutors {
+
+    ;
+
+    private static final int THREADS = Math.max(2, Math.min(16, Runtime.getRuntime().availableProcessors() * 2));
+
+    /**
+     * Gets the executor used by every configuration which does not provide its own.
+     * <p>
+     * It is the same executor used by {@link CompletableFuture} when none is given:
+     * the common {@link ForkJoinPool} or, if it does not support parallelism, a new thread for each task.
+     *
+     * @return The default {@link Executor}
+     */
+    public static Executor common() {
+        return ForkJoinPool.getCommonPoolParallelism() > 1 ? ForkJoinPool.commonPool() : Common.PER_TASK;
+    }
+
+    /**
+     * Gets a bounded pool of daemon threads, which are released while idle, shared by the configurations asking for it.
+     * <p>
+     * It keeps blocking file accesses away from the common {@link ForkJoinPool}.
+     *
+     * @return The shared {@link Executor}
+     */
+    public static Executor shared() {
+        return Shared.POOL;
+    }
+
+    /**
+     * Creates a new bounded pool of daemon threads, the caller is in charge of shutting it down
+     *
+     * @param threads The maximum number of threads
+     * @return The new {@link ExecutorService}
+     * @throws IllegalArgumentException If the threads are less than one
+     */
+    public static ExecutorService newBounded(int threads) {
+
+        if (threads < 1)
+            throw new IllegalArgumentException("The threads cannot be less than one");
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new Daemon());
+
+        // Idle threads are not kept alive forever
+        pool.allowCoreThreadTimeOut(true);
+
+        return pool;
+    }
+
+    /**
+     * Creates a new executor which starts a virtual thread for each task, the caller is in charge of shutting it down
+     *
+     * @return The new {@link ExecutorService}
+     * @throws UnsupportedOperationException If virtual threads are not available on the running JVM (JDK 21+)
+     */
+    public static ExecutorService newVirtualPerTask() {
+
+        try {
+            // Looked up at runtime, the library still targets older JVMs
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("Virtual threads are not available on this JVM", e);
+        }
+
+    }
+
+    /**
+     * Checks if virtual threads are available on the running JVM
+     *
+     * @return True or false
+     */
+    public static boolean isVirtualAvailable() {
+
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets an executor which hands each task over to the given one after the delay, as {@code CompletableFuture.delayedExecutor} does on JDK 9+.
+     * <p>
+     * The delays are tracked by a single daemon thread, which never runs the tasks itself.
+     *
+     * @param delay    The delay
+     * @param executor The executor running the tasks
+     * @return The delayed {@link Executor}
+     * @throws NullPointerException     If any parameter is null
+     * @throws IllegalArgumentException If the delay is negative
+     */
+    public static Executor delayed(Duration delay, Executor executor) {
+
+        if (delay == null)
+            throw new NullPointerException("The delay cannot be null");
+
+        if (delay.isNegative())
+            throw new IllegalArgumentException("The delay cannot be negative");
+
+        if (executor == null)
+            throw new NullPointerException("The executor cannot be null");
+
+        long nanos = delay.toNanos();
+
+        return r -> Scheduler.TIMER.schedule(() -> executor.execute(r), nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Holder of the thread-per-task executor used when the common pool does not support parallelism
+     */
+    private static final class Common {
+        private static final Executor PER_TASK = r -> new Thread(r).start();
+    }
+
+    /**
+     * Holder of the shared pool, created only when it is requested the first time
+     */
+    private static final class Shared {
+        private static final Executor POOL = newBounded(THREADS);
+    }
+
+    /**
+     * Holder of the timer used by the delayed executors, created only when it is requested the first time
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledThreadPoolExecutor TIMER = __timer();
+
+        private static ScheduledThreadPoolExecutor __timer() {
+
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new Daemon());
+            // Nothing is kept around once it is no longer waiting
+            timer.setRemoveOnCancelPolicy(true);
+
+            return timer;
+        }
+    }
+
+    /**
+     * The factory of the daemon threads used by the bounded pools
+     */
+    private static final class Daemon implements ThreadFactory {
+
+        private static final AtomicInteger POOLS = new AtomicInteger();
+
+        private final AtomicInteger threads = new AtomicInteger();
+        private final int pool = POOLS.incrementAndGet();
+
+        @Override
+        public Thread newThread(Runnable r) {
+
+            Thread t = new Thread(r, "tiny-configuration-io-" + pool + "-" + threads.incrementAndGet());
+
+            // They must not keep the application alive
+            t.setDaemon(true);
+
+            return t;
+        }
+    }
+
+}
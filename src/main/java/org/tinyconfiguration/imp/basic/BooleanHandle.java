@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.BooleanValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link BooleanHandle} class is a typed accessor to a {@code boolean} property, resolved once through {@link Configuration#booleanHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class BooleanHandle extends Handle<BooleanValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    BooleanHandle(Property property) {
+        super(property, BooleanValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The boolean value contained by the property
+     */
+    public boolean get() {
+        return value().asBoolean();
+    }
+
+    /**
+     * Converts a generic value to {@link BooleanValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    BooleanValue specialize(Value e) {
+        return new BooleanValue(e.asBoolean());
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.ByteValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link ByteHandle} class is a typed accessor to a {@code byte} property, resolved once through {@link Configuration#byteHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class ByteHandle extends Handle<ByteValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    ByteHandle(Property property) {
+        super(property, ByteValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The byte value contained by the property
+     */
+    public byte get() {
+        return value().asByte();
+    }
+
+    /**
+     * Converts a generic value to {@link ByteValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    ByteValue specialize(Value e) {
+        return new ByteValue(e.asByte());
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.CharValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link CharHandle} class is a typed accessor to a {@code char} property, resolved once through {@link Configuration#charHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class CharHandle extends Handle<CharValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    CharHandle(Property property) {
+        super(property, CharValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The character value contained by the property
+     */
+    public char get() {
+        return value().asCharacter();
+    }
+
+    /**
+     * Converts a generic value to {@link CharValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    CharValue specialize(Value e) {
+        return new CharValue(e.asCharacter());
+    }
+
+}
@@ -2,22 +2,26 @@ package org.tinyconfiguration.imp.basic;
 
 import org.tinyconfiguration.abc.AbstractConfiguration;
 import org.tinyconfiguration.abc.builders.AbstractBuilder;
+import org.tinyconfiguration.abc.data.Datatype;
+import org.tinyconfiguration.abc.data.Value;
 import org.tinyconfiguration.abc.ex.ConfigurationException;
 import org.tinyconfiguration.abc.ex.PropertyException;
 import org.tinyconfiguration.abc.io.utils.Readable;
 import org.tinyconfiguration.abc.io.utils.Writable;
 import org.tinyconfiguration.abc.utils.FormatType;
+import org.tinyconfiguration.abc.utils.IOExecutors;
 import org.tinyconfiguration.imp.basic.io.HandlerCSV;
 import org.tinyconfiguration.imp.basic.io.HandlerJSON;
 import org.tinyconfiguration.imp.basic.io.HandlerXML;
 import org.tinyconfiguration.imp.basic.io.HandlerYAML;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.concurrent.Future;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link Configuration} class defines all properties included inside the configuration file
@@ -27,7 +31,15 @@ import java.util.concurrent.Future;
  */
 public final class Configuration extends AbstractConfiguration<Property> implements Readable, Writable {
 
-    private final LinkedHashMap<String, Property> properties;
+    private volatile LinkedHashMap<String, Property> properties;
+    private volatile Property[] slots;
+    private volatile Snapshot snapshot;
+    private volatile int publishing;
+    private final boolean durable;
+    private final Duration window;
+    private final Engine engine;
+    private final WriteBehind writeBehind;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Private empty constructor
@@ -35,14 +47,51 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
     private Configuration() {
         super();
         this.properties = new LinkedHashMap<>();
+        this.slots = new Property[0];
+        this.durable = false;
+        this.window = Duration.ZERO;
+        this.engine = Engine.DOM;
+        this.writeBehind = new WriteBehind(this, window);
     }
 
     /**
      * Private configuration constructor with parameters
      */
-    private Configuration(String name, String version, String filename, String pathname, LinkedHashMap<String, Property> properties) {
-        super(name, version, filename, pathname);
+    private Configuration(String name, String version, String filename, String pathname, Executor executor, boolean durable, Duration window, Engine engine, LinkedHashMap<String, Property> properties) {
+        super(name, version, filename, pathname, executor);
         this.properties = properties;
+        this.slots = properties.values().toArray(new Property[0]);
+        this.durable = durable;
+        this.window = window;
+        this.engine = engine;
+        this.writeBehind = new WriteBehind(this, window);
+    }
+
+    /**
+     * Check if the written file is forced on the storage device before it replaces the previous one
+     *
+     * @return True or false
+     */
+    public boolean isDurable() {
+        return durable;
+    }
+
+    /**
+     * Gets how long an asynchronous writing request waits for the following ones, to be served by the same write
+     *
+     * @return The {@link Duration} of the window
+     */
+    public Duration getWriteWindow() {
+        return window;
+    }
+
+    /**
+     * Gets the engine used to read and write the configuration file
+     *
+     * @return The {@link Engine} value
+     */
+    public Engine getEngine() {
+        return engine;
     }
 
     /**
@@ -52,7 +101,19 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
      */
     @Override
     public List<Property> getProperties() {
-        return new ArrayList<>(properties.values());
+        return new ArrayList<>(this.properties.values());
+    }
+
+    /**
+     * Gets the properties without copying them.
+     *
+     * <p>The view is backed by the current properties, it does not reflect a following {@link #clear()}.</p>
+     *
+     * @return The properties associated to the container object as unmodifiable {@link Collection}
+     */
+    @Override
+    public Collection<Property> getPropertiesView() {
+        return Collections.unmodifiableCollection(this.properties.values());
     }
 
     /**
@@ -66,16 +127,203 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
      */
     public Property get(String key) {
 
+        Property e = this.properties.get(key);
+
+        // The key is checked only when it does not match
+        if (e == null) {
+
+            if (key == null)
+                throw new NullPointerException("The key cannot be null");
+
+            if (key.trim().isEmpty())
+                throw new IllegalArgumentException("The key cannot be empty");
+
+            throw new NoSuchElementException("The following key does not exists: " + key);
+        }
+
+        return e;
+    }
+
+    /**
+     * Gets a specific property using a pre-resolved key
+     *
+     * @param key The handle obtained by {@link #key(String)}
+     * @return The {@link Property} object used to retrieve any known information
+     * @throws NullPointerException   If the key is null
+     * @throws NoSuchElementException If the key was not resolved on this configuration or it was cleared meanwhile
+     */
+    public Property lookup(PropertyKey key) {
+
+        if (key == null)
+            throw new NullPointerException("The key cannot be null");
+
+        // Same table, same positions
+        if (key.slots != this.slots)
+            throw new NoSuchElementException("The following key does not belong to the configuration: " + key.getKey());
+
+        return key.slots[key.index];
+    }
+
+    /**
+     * Resolves a key once, so the property can be retrieved later by {@link #lookup(PropertyKey)} without hashing it
+     *
+     * @param key The key used to identify the value
+     * @return The {@link PropertyKey} handle
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public PropertyKey key(String key) {
+
         if (key == null)
             throw new NullPointerException("The key cannot be null");
 
         if (key.trim().isEmpty())
             throw new IllegalArgumentException("The key cannot be empty");
 
-        if (this.properties.get(key) == null)
-            throw new NoSuchElementException("The following key does not exists: " + key);
+        Property[] table = this.slots;
+
+        for (int i = 0; i < table.length; i++) {
+            if (table[i].getKey().equals(key))
+                return new PropertyKey(table, i, key);
+        }
+
+        throw new NoSuchElementException("The following key does not exists: " + key);
+    }
 
-        return this.properties.get(key);
+    /**
+     * Resolves a typed accessor to a {@code int} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link IntHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code int}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public IntHandle intHandle(String key) {
+        return new IntHandle(typed(key, Datatype.INT));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@code long} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link LongHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code long}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public LongHandle longHandle(String key) {
+        return new LongHandle(typed(key, Datatype.LONG));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@code double} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link DoubleHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code double}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public DoubleHandle doubleHandle(String key) {
+        return new DoubleHandle(typed(key, Datatype.DOUBLE));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@code boolean} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link BooleanHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code boolean}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public BooleanHandle booleanHandle(String key) {
+        return new BooleanHandle(typed(key, Datatype.BOOLEAN));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@code float} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link FloatHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code float}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public FloatHandle floatHandle(String key) {
+        return new FloatHandle(typed(key, Datatype.FLOAT));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@code short} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link ShortHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code short}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public ShortHandle shortHandle(String key) {
+        return new ShortHandle(typed(key, Datatype.SHORT));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@code byte} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link ByteHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code byte}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public ByteHandle byteHandle(String key) {
+        return new ByteHandle(typed(key, Datatype.BYTE));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@code char} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link CharHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@code char}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public CharHandle charHandle(String key) {
+        return new CharHandle(typed(key, Datatype.CHAR));
+    }
+
+    /**
+     * Resolves a typed accessor to a {@link String} property
+     *
+     * @param key The key used to identify the value
+     * @return The {@link StringHandle} accessor
+     * @throws NullPointerException     If the key is null
+     * @throws IllegalArgumentException If the key is empty or the property is not declared as {@link String}
+     * @throws NoSuchElementException   If the key does not match any property
+     */
+    public StringHandle stringHandle(String key) {
+        return new StringHandle(typed(key, Datatype.STRING));
+    }
+
+    /**
+     * Gets a specific property checking its declared datatype
+     *
+     * @param key      The key used to identify the value
+     * @param datatype The expected datatype
+     * @return The {@link Property} object
+     * @throws IllegalArgumentException If the property is not declared with the expected datatype
+     */
+    private Property typed(String key, Datatype datatype) {
+
+        Property e = get(key);
+
+        if (e.getValue().getDatatype() != datatype)
+            throw new IllegalArgumentException("The following property is not declared as " + datatype + ": " + key);
+
+        return e;
     }
 
     /**
@@ -88,12 +336,50 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
         return properties.isEmpty();
     }
 
+    /**
+     * Returns how many properties are stored inside the configuration.
+     *
+     * @return The number of properties
+     */
+    @Override
+    public int size() {
+        return this.properties.size();
+    }
+
     /**
      * Remove all properties and listeners stored by the container.
      */
     @Override
     public void clear() {
-        this.properties.clear();
+        // Swapping the map, readers never see it while it is changing
+        this.properties = new LinkedHashMap<>();
+        this.slots = new Property[0];
+        this.listeners.clear();
+    }
+
+    /**
+     * Adds a listener notified once after each reading which changed at least one value
+     *
+     * @param listener The listener
+     * @throws NullPointerException If the listener is null
+     * @see Property#addListener(Property.Listener)
+     */
+    public void addListener(Listener listener) {
+
+        if (listener == null)
+            throw new NullPointerException("The listener cannot be null");
+
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener
+     *
+     * @param listener The listener
+     * @return True if the listener was added before, otherwise false
+     */
+    public boolean removeListener(Listener listener) {
+        return this.listeners.remove(listener);
     }
 
     /**
@@ -117,7 +403,16 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
     }
 
     /**
-     * Reads the configuration file
+     * Reads the configuration file.
+     *
+     * <p>The file is decoded into a detached copy of the properties, which are published only if the whole file is valid.
+     * Each value is published atomically, so concurrent readers never observe a partially decoded value
+     * and nothing changes if the reading fails, whatever {@link Engine} is used.</p>
+     *
+     * <p>Once the values are published, the listeners are notified only about the values which actually changed:
+     * each configuration listener receives the whole batch at once, each property listener its own change.
+     * If any listener throws, the remaining ones are still notified and the exception is handed to the
+     * {@link Thread.UncaughtExceptionHandler} of the current thread: the reading itself succeeded, so it does not fail.</p>
      *
      * @param type The configuration instance export type
      * @throws IOException            If anything goes wrong while processing the file
@@ -126,25 +421,85 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
      */
     @Override
     public void read(FormatType type) throws IOException, ConfigurationException, PropertyException {
+        reload(type);
+    }
+
+    /**
+     * Reads the configuration file as {@link #read(FormatType)} does
+     *
+     * @param type The configuration instance export type
+     * @return The changes made by the reading, it can be empty
+     * @throws IOException            If anything goes wrong while processing the file
+     * @throws ConfigurationException If configuration parsing fails
+     * @throws PropertyException      If property parsing fails
+     */
+    List<PropertyChange> reload(FormatType type) throws IOException, ConfigurationException, PropertyException {
         if (type == null)
             throw new NullPointerException("The export format cannot be null");
 
+        // Decoding off to the side
+        Configuration staged = stage();
+
         switch (type) {
             case XML:
-                HandlerXML.READER.read(this);
+                HandlerXML.READER.read(staged);
                 break;
             case JSON:
-                HandlerJSON.READER.read(this);
+                HandlerJSON.READER.read(staged);
                 break;
             case YAML:
-                HandlerYAML.READER.read(this);
+                HandlerYAML.READER.read(staged);
                 break;
             case CSV:
-                HandlerCSV.READER.read(this);
+                HandlerCSV.READER.read(staged);
                 break;
             default:
                 throw new IllegalArgumentException("The following format is not supported");
         }
+
+        // Everything was decoded successfully
+        List<PropertyChange> changes = Collections.unmodifiableList(publish(staged));
+
+        // Outside the lock, listeners could read the configuration again
+        if (!changes.isEmpty())
+            notify(changes);
+
+        return changes;
+    }
+
+    /**
+     * Notifies the listeners about the published changes
+     *
+     * @param changes The published changes
+     */
+    private void notify(List<PropertyChange> changes) {
+
+        // One batch for the whole reading
+        for (Listener listener : this.listeners) {
+            try {
+                listener.onChange(this, changes);
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+
+        for (PropertyChange change : changes) {
+            change.getProperty().notify(change);
+        }
+
+    }
+
+    /**
+     * Hands an exception thrown by a listener to the uncaught exception handler of the current thread,
+     * so it cannot be mistaken for a failed reading
+     *
+     * @param e The exception
+     */
+    static void report(RuntimeException e) {
+
+        Thread thread = Thread.currentThread();
+
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
     }
 
     /**
@@ -152,40 +507,133 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
      *
      * @param type The configuration instance export type
      * @return Future object representing the reading task
+     * @see #getExecutor()
+     */
+    @Override
+    public CompletableFuture<Void> readAsync(FormatType type) {
+        return readAsync(type, executor);
+    }
+
+    /**
+     * Reads the configuration file asynchronously
+     *
+     * @param type     The configuration instance export type
+     * @param executor The executor running the reading task
+     * @return Future object representing the reading task
+     * @see #read(FormatType)
      */
     @Override
-    public Future<Void> readAsync(FormatType type) {
+    public CompletableFuture<Void> readAsync(FormatType type, Executor executor) {
 
         if (type == null)
             throw new NullPointerException("The export format cannot be null");
 
-        Future<Void> e;
+        if (executor == null)
+            throw new NullPointerException("The executor cannot be null");
 
-        switch (type) {
-            case XML:
-                e = HandlerXML.READER.readAsync(this);
-                break;
-            case JSON:
-                e = HandlerJSON.READER.readAsync(this);
-                break;
-            case YAML:
-                e = HandlerYAML.READER.readAsync(this);
-                break;
-            case CSV:
-                e = HandlerCSV.READER.readAsync(this);
-                break;
-            default:
-                throw new IllegalArgumentException("The following format is not supported");
+        return CompletableFuture.runAsync(() -> {
+            try {
+                read(type);
+            } catch (IOException | ConfigurationException | PropertyException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Creates a detached copy of this configuration, the reading tasks decode the file on it
+     *
+     * @return The {@link Configuration} copy
+     */
+    private Configuration stage() {
+
+        LinkedHashMap<String, Property> copies = new LinkedHashMap<>();
+
+        for (Property property : this.properties.values()) {
+            copies.put(property.getKey(), property.copy());
         }
 
-        return e;
+        return new Configuration(name, version, filename, pathname, executor, durable, window, engine, copies);
     }
 
     /**
-     * Write the configuration file
+     * Publishes the values decoded on the detached copy
+     *
+     * @param staged The detached copy
+     * @return The changes, in the same order of the properties
+     */
+    private synchronized List<PropertyChange> publish(Configuration staged) {
+
+        List<PropertyChange> changes = new ArrayList<>();
+
+        // Odd while publishing, snapshots taken meanwhile are retried
+        ++this.publishing;
+
+        try {
+
+            for (Property property : this.properties.values()) {
+
+                Property decoded = staged.properties.get(property.getKey());
+
+                // The properties could have been cleared meanwhile, unchanged values are kept
+                if (decoded != null && !Property.equal(property.getValue(), decoded.getValue())) {
+                    // In-place values are updated, the previous one is copied first
+                    Value previous = Property.detach(property.getValue());
+                    property.publish(decoded.getValue());
+                    changes.add(new PropertyChange(property, previous, decoded.getValue()));
+                }
+
+            }
+
+        } finally {
+            ++this.publishing;
+        }
+
+        return changes;
+    }
+
+    /**
+     * Returns an immutable, point-in-time view of the property values.
+     *
+     * <p>The view is never changed by later updates and it is consistent with respect to {@link #read(FormatType)},
+     * which means it never contains values coming from different reads.
+     * Values which did not change since the previous snapshot are shared with it, including arrays which are not copied,
+     * and if nothing changed the previous snapshot itself is returned.</p>
+     *
+     * @return The {@link Snapshot} of the current values
+     */
+    public Snapshot snapshot() {
+
+        while (true) {
+
+            int before = this.publishing;
+
+            // Not while a reading task is publishing
+            if ((before & 1) == 0) {
+
+                Snapshot e = Snapshot.capture(this, this.snapshot);
+
+                if (before == this.publishing) {
+                    this.snapshot = e;
+                    return e;
+                }
+
+            }
+
+            Thread.yield();
+        }
+
+    }
+
+    /**
+     * Write the configuration file.
+     *
+     * <p>The content is written on a temporary file inside the same directory, which atomically replaces
+     * the configuration file once it is complete, so concurrent readers never observe a partial file.</p>
      *
      * @param type The configuration instance export type
      * @throws IOException If anything goes wrong while processing the file
+     * @see Builder#setDurable(boolean)
      */
     @Override
     public void write(FormatType type) throws IOException {
@@ -211,31 +659,36 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
     }
 
     /**
-     * Write the configuration file asynchronously
+     * Write the configuration file only if its content changed.
+     *
+     * <p>The content is hashed while it is written on the temporary file, if the configuration file already holds
+     * the same content it is left untouched, so neither its modification time changes nor any file watcher is triggered.
+     * The digest of the previous comparison is reused while the file is not touched by anyone else,
+     * otherwise the file on disk is hashed again.</p>
      *
      * @param type The configuration instance export type
-     * @return Future object representing the writing task
+     * @return True if the file was written, false if it already had the same content
+     * @throws IOException If anything goes wrong while processing the file
      */
     @Override
-    public Future<Void> writeAsync(FormatType type) {
-
+    public boolean writeIfChanged(FormatType type) throws IOException {
         if (type == null)
-            throw new NullPointerException("The format type cannot be null");
+            throw new NullPointerException("The export format cannot be null");
 
-        Future<Void> e;
+        boolean e;
 
         switch (type) {
             case XML:
-                e = HandlerXML.WRITER.writeAsync(this);
+                e = HandlerXML.WRITER.writeIfChanged(this);
                 break;
             case JSON:
-                e = HandlerJSON.WRITER.writeAsync(this);
+                e = HandlerJSON.WRITER.writeIfChanged(this);
                 break;
             case YAML:
-                e = HandlerYAML.WRITER.writeAsync(this);
+                e = HandlerYAML.WRITER.writeIfChanged(this);
                 break;
             case CSV:
-                e = HandlerCSV.WRITER.writeAsync(this);
+                e = HandlerCSV.WRITER.writeIfChanged(this);
                 break;
             default:
                 throw new IllegalArgumentException("The following format is not supported");
@@ -244,6 +697,192 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
         return e;
     }
 
+    /**
+     * Write the configuration file asynchronously
+     *
+     * @param type The configuration instance export type
+     * @return Future object representing the writing task
+     * @see #getExecutor()
+     */
+    @Override
+    public CompletableFuture<Void> writeAsync(FormatType type) {
+        return writeAsync(type, executor);
+    }
+
+    /**
+     * Write the configuration file asynchronously.
+     *
+     * <p>At most one writing task per configuration is in flight: the requests made within the write window,
+     * or while the file is being written, are coalesced into the next write, which writes the latest values
+     * and completes all of them.</p>
+     *
+     * @param type     The configuration instance export type
+     * @param executor The executor running the writing task, if a new one is started
+     * @return Future object representing the writing task
+     * @see Builder#setWriteWindow(Duration)
+     */
+    @Override
+    public CompletableFuture<Void> writeAsync(FormatType type, Executor executor) {
+
+        if (type == null)
+            throw new NullPointerException("The format type cannot be null");
+
+        if (executor == null)
+            throw new NullPointerException("The executor cannot be null");
+
+        // Bursts of requests are served by a single write
+        return writeBehind.submit(type, executor);
+    }
+
+
+    /**
+     * The {@link Listener} interface is notified when reading the configuration file changes any value
+     */
+    public interface Listener {
+
+        /**
+         * Invoked after the new values were published
+         *
+         * @param instance The configuration instance
+         * @param changes  The changes made by the reading, in the same order of the properties
+         */
+        void onChange(Configuration instance, List<PropertyChange> changes);
+
+    }
+
+    /**
+     * The {@link Engine} enum defines how the configuration file is processed
+     */
+    public enum Engine {
+
+        /**
+         * The whole document is built in memory, then decoded
+         */
+        DOM,
+
+        /**
+         * Each property is decoded or encoded as the file streams by, without building the whole document.
+         * The formats without a dedicated implementation are processed as {@link #DOM} does.
+         */
+        STREAM
+
+    }
+
+    /**
+     * The {@link Snapshot} class is an immutable, point-in-time view of the {@link Configuration} values
+     *
+     * @author G. Baittiner
+     * @version 0.1
+     */
+    public static final class Snapshot {
+
+        private final String name;
+        private final String version;
+        private final Map<String, Value> values;
+
+        private Snapshot(String name, String version, Map<String, Value> values) {
+            this.name = name;
+            this.version = version;
+            this.values = Collections.unmodifiableMap(values);
+        }
+
+        /**
+         * Captures the current values, sharing the unchanged ones with the previous snapshot
+         *
+         * @param instance The configuration instance
+         * @param previous The previous snapshot or null
+         * @return The {@link Snapshot} of the current values
+         */
+        private static Snapshot capture(Configuration instance, Snapshot previous) {
+
+            LinkedHashMap<String, Property> properties = instance.properties;
+            LinkedHashMap<String, Value> values = new LinkedHashMap<>(properties.size() * 4 / 3 + 1);
+
+            boolean changed = previous == null || previous.values.size() != properties.size();
+
+            for (Property property : properties.values()) {
+
+                Value current = property.getValue();
+                Value last = previous == null ? null : previous.values.get(property.getKey());
+
+                if (last != null && Property.same(last, current)) {
+                    // Sharing
+                    values.put(property.getKey(), last);
+                } else {
+                    // Values updated in place must be copied
+                    values.put(property.getKey(), Property.detach(current));
+                    changed = true;
+                }
+
+            }
+
+            return changed ? new Snapshot(instance.getName(), instance.getVersion(), values) : previous;
+        }
+
+        /**
+         * Gets the configuration name
+         *
+         * @return The configuration name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the configuration version
+         *
+         * @return The configuration version
+         */
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * Gets the value of a specific property using the provided key
+         *
+         * @param key The key used to identify the value
+         * @return The {@link Value} at the time of the snapshot
+         * @throws NullPointerException   If the key is null
+         * @throws NoSuchElementException If the key does not match any property
+         */
+        public Value get(String key) {
+
+            if (key == null)
+                throw new NullPointerException("The key cannot be null");
+
+            Value e = this.values.get(key);
+
+            if (e == null)
+                throw new NoSuchElementException("The following key does not exists: " + key);
+
+            return e;
+        }
+
+        /**
+         * Check if a specific key is stored inside the snapshot
+         *
+         * @param key The key used to identify the value
+         * @return True or false
+         * @throws NullPointerException If the key is null
+         */
+        public boolean contains(String key) {
+
+            if (key == null)
+                throw new NullPointerException("The key cannot be null");
+
+            return this.values.containsKey(key);
+        }
+
+        /**
+         * Gets all the values
+         *
+         * @return The unmodifiable {@link Map} from each key to its value, in declaration order
+         */
+        public Map<String, Value> getValues() {
+            return this.values;
+        }
+
+    }
 
     /**
      * The {@link Builder} class allows to generate {@link Configuration} instances
@@ -258,6 +897,10 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
         private String version;
         private String filename;
         private String pathname;
+        private Executor executor;
+        private boolean durable;
+        private Duration window;
+        private Engine engine;
         private LinkedHashMap<String, Property> properties;
 
         /**
@@ -268,6 +911,10 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
             this.version = null;
             this.filename = null;
             this.pathname = null;
+            this.executor = IOExecutors.common();
+            this.durable = false;
+            this.window = Duration.ZERO;
+            this.engine = Engine.DOM;
             this.properties = new LinkedHashMap<>();
             this.isCleanable = true;
         }
@@ -282,6 +929,10 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
             this.version = null;
             this.filename = null;
             this.pathname = null;
+            this.executor = IOExecutors.common();
+            this.durable = false;
+            this.window = Duration.ZERO;
+            this.engine = Engine.DOM;
             this.properties = new LinkedHashMap<>();
             this.isCleanable = isCleanable;
         }
@@ -388,6 +1039,85 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
             return this;
         }
 
+        /**
+         * Sets the executor running the asynchronous operations.
+         *
+         * <p>If it is not set, the default one given by {@link IOExecutors#common()} is used,
+         * blocking file accesses can be moved away from it using {@link IOExecutors#shared()}.</p>
+         *
+         * @param executor The executor
+         * @return The {@link Builder} current instance
+         * @throws NullPointerException If the given {@link Executor} is null
+         */
+        public Builder setExecutor(Executor executor) {
+
+            if (executor == null)
+                throw new NullPointerException("The executor cannot be null");
+
+            this.executor = executor;
+
+            return this;
+        }
+
+        /**
+         * Sets if the written file must be forced on the storage device before it replaces the previous one.
+         *
+         * <p>Writing is always atomic, readers observe either the previous file or the new one.
+         * A durable write also survives a system crash, at the cost of waiting for the device.</p>
+         *
+         * @param durable True or false
+         * @return The {@link Builder} current instance
+         */
+        public Builder setDurable(boolean durable) {
+
+            this.durable = durable;
+
+            return this;
+        }
+
+        /**
+         * Sets how long an asynchronous writing request waits for the following ones.
+         *
+         * <p>The requests made within the window, or while the file is being written, are coalesced into a single write
+         * which completes all of them. If it is not set, only the requests made while the file is being written are coalesced.</p>
+         *
+         * @param window The window
+         * @return The {@link Builder} current instance
+         * @throws NullPointerException     If the window is null
+         * @throws IllegalArgumentException If the window is negative
+         */
+        public Builder setWriteWindow(Duration window) {
+
+            if (window == null)
+                throw new NullPointerException("The window cannot be null");
+
+            if (window.isNegative())
+                throw new IllegalArgumentException("The window cannot be negative");
+
+            this.window = window;
+
+            return this;
+        }
+
+        /**
+         * Sets the engine used to read and write the configuration file.
+         *
+         * <p>If it is not set, {@link Engine#DOM} is used. The values are published in the same way by every engine.</p>
+         *
+         * @param engine The engine
+         * @return The {@link Builder} current instance
+         * @throws NullPointerException If the engine is null
+         */
+        public Builder setEngine(Engine engine) {
+
+            if (engine == null)
+                throw new NullPointerException("The engine cannot be null");
+
+            this.engine = engine;
+
+            return this;
+        }
+
         /**
          * Insert a specific property inside the configuration instance
          *
@@ -416,6 +1146,10 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
             this.version = null;
             this.filename = null;
             this.pathname = null;
+            this.executor = IOExecutors.common();
+            this.durable = false;
+            this.window = Duration.ZERO;
+            this.engine = Engine.DOM;
             this.properties = new LinkedHashMap<>();
         }
 
@@ -440,7 +1174,7 @@ public final class Configuration extends AbstractConfiguration<Property> impleme
             if (pathname == null)
                 throw new NullPointerException("The pathname must be set!");
 
-            Configuration e = new Configuration(name, version, filename, pathname, properties);
+            Configuration e = new Configuration(name, version, filename, pathname, executor, durable, window, engine, properties);
 
             if (this.isCleanable)
                 clear();
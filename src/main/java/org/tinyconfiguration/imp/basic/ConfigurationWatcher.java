@@ -0,0 +1,572 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.utils.FormatType;
+import org.tinyconfiguration.abc.utils.IOExecutors;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * The {@link ConfigurationWatcher} class reloads the {@link Configuration} instances whose file changed on disk.
+ * <p>
+ * Every registered file is watched by a single thread, bursts of events on the same file are debounced
+ * and only the changed files are read again, on the given executor. Each configuration is read by one task at a time,
+ * so the latest content is always the last one published.
+ * <p>
+ * If a watched directory is deleted, the listeners are notified through {@link Listener#onFailure} and the directory
+ * is checked periodically, once created again it is watched and its existing files are reloaded.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class ConfigurationWatcher implements Closeable {
+
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(100);
+    private static final long RECOVERY = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final WatchService service;
+    private final Executor executor;
+    private final long debounce;
+    private final Thread thread;
+
+    private final Map<Path, List<Registration>> files;
+    private final Map<Path, WatchKey> directories;
+    private final List<Listener> listeners;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a new watcher, reloading on the shared I/O pool after 100 milliseconds without further events
+     *
+     * @throws IOException If the watch service cannot be created
+     * @see IOExecutors#shared()
+     */
+    public ConfigurationWatcher() throws IOException {
+        this(IOExecutors.shared(), DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Creates a new watcher
+     *
+     * @param executor The executor running the reloading tasks
+     * @param debounce How long a file must be left untouched before it is reloaded
+     * @throws IOException              If the watch service cannot be created
+     * @throws NullPointerException     If any parameter is null
+     * @throws IllegalArgumentException If the debounce is negative
+     */
+    public ConfigurationWatcher(Executor executor, Duration debounce) throws IOException {
+
+        if (executor == null)
+            throw new NullPointerException("The executor cannot be null");
+
+        if (debounce == null)
+            throw new NullPointerException("The debounce cannot be null");
+
+        if (debounce.isNegative())
+            throw new IllegalArgumentException("The debounce cannot be negative");
+
+        this.service = FileSystems.getDefault().newWatchService();
+        this.executor = executor;
+        this.debounce = debounce.toNanos();
+
+        this.files = new ConcurrentHashMap<>();
+        this.directories = new HashMap<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+
+        this.thread = new Thread(this::run, "tiny-configuration-watcher");
+        // It must not keep the application alive
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Starts watching the configuration file
+     *
+     * @param instance The configuration instance
+     * @param type     The configuration instance export type
+     * @throws IOException           If the directory of the file cannot be watched
+     * @throws NullPointerException  If any parameter is null
+     * @throws IllegalStateException If the watcher is closed
+     */
+    public synchronized void register(Configuration instance, FormatType type) throws IOException {
+
+        if (instance == null)
+            throw new NullPointerException("The configuration instance cannot be null");
+
+        if (type == null)
+            throw new NullPointerException("The export format cannot be null");
+
+        if (closed)
+            throw new IllegalStateException("The watcher is closed");
+
+        Path file = path(instance);
+        Path directory = file.getParent();
+        WatchKey key = directories.get(directory);
+
+        // One key for each directory, registered again if the directory was deleted
+        if (key == null || !key.isValid())
+            directories.put(directory, directory.register(service, ENTRY_CREATE, ENTRY_MODIFY));
+
+        List<Registration> registrations = files.computeIfAbsent(file, k -> new CopyOnWriteArrayList<>());
+
+        // Registering again replaces the format
+        registrations.removeIf(r -> r.instance == instance);
+        registrations.add(new Registration(instance, type));
+    }
+
+    /**
+     * Stops watching the configuration file
+     *
+     * @param instance The configuration instance
+     * @return True if the instance was registered, otherwise false
+     * @throws NullPointerException If the instance is null
+     */
+    public synchronized boolean unregister(Configuration instance) {
+
+        if (instance == null)
+            throw new NullPointerException("The configuration instance cannot be null");
+
+        Path file = path(instance);
+        List<Registration> registrations = files.get(file);
+
+        if (registrations == null || !registrations.removeIf(r -> r.instance == instance))
+            return false;
+
+        if (registrations.isEmpty()) {
+
+            files.remove(file);
+
+            Path directory = file.getParent();
+
+            // Nothing else to watch inside the directory
+            if (files.keySet().stream().noneMatch(f -> f.getParent().equals(directory))) {
+
+                WatchKey key = directories.remove(directory);
+
+                if (key != null)
+                    key.cancel();
+
+            }
+
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds a listener notified after each reloading task
+     *
+     * @param listener The listener
+     * @throws NullPointerException If the listener is null
+     */
+    public void addListener(Listener listener) {
+
+        if (listener == null)
+            throw new NullPointerException("The listener cannot be null");
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener
+     *
+     * @param listener The listener
+     * @return True if the listener was added before, otherwise false
+     */
+    public boolean removeListener(Listener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Stops watching every file, the reloading tasks already submitted are not interrupted
+     *
+     * @throws IOException If the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        synchronized (this) {
+
+            if (closed)
+                return;
+
+            closed = true;
+
+            files.clear();
+            directories.clear();
+        }
+
+        // The watching thread exits as soon as the service is closed
+        service.close();
+    }
+
+    /**
+     * The watching loop, run by a single thread
+     */
+    private void run() {
+
+        // Files waiting for the events to settle, only touched by this thread
+        Map<Path, Long> pending = new HashMap<>();
+        // Deleted directories waiting to be created again, only touched by this thread
+        Set<Path> lost = new HashSet<>();
+
+        try {
+
+            while (!closed) {
+
+                WatchKey key;
+
+                if (pending.isEmpty() && lost.isEmpty()) {
+                    key = service.take();
+                } else {
+                    long wait = lost.isEmpty() ? Long.MAX_VALUE : RECOVERY;
+
+                    if (!pending.isEmpty())
+                        wait = Math.min(wait, Collections.min(pending.values()) - System.nanoTime());
+
+                    key = wait > 0 ? service.poll(wait, TimeUnit.NANOSECONDS) : service.poll();
+                }
+
+                if (key != null) {
+
+                    collect(key, pending);
+
+                    // The directory is no longer accessible, it is watched again once created
+                    if (!key.reset())
+                        discard(key, lost);
+
+                }
+
+                recover(lost, pending);
+                dispatch(pending);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // Closed while waiting
+        }
+
+    }
+
+    /**
+     * Forgets a key which is no longer valid and notifies the listeners of the files inside its directory
+     *
+     * @param key  The invalid key
+     * @param lost The directories waiting to be created again
+     */
+    private void discard(WatchKey key, Set<Path> lost) {
+
+        Path directory = (Path) key.watchable();
+
+        synchronized (this) {
+            directories.remove(directory, key);
+        }
+
+        lost.add(directory);
+
+        Exception e = new NoSuchFileException(directory.toString(), null, "The watched directory was deleted");
+
+        for (Map.Entry<Path, List<Registration>> entry : files.entrySet()) {
+            if (entry.getKey().getParent().equals(directory)) {
+                for (Registration r : entry.getValue())
+                    fail(r, e);
+            }
+        }
+
+    }
+
+    /**
+     * Watches again the deleted directories which were created again, marking their existing files as changed
+     *
+     * @param lost    The directories waiting to be created again
+     * @param pending The files waiting to be reloaded
+     */
+    private void recover(Set<Path> lost, Map<Path, Long> pending) {
+
+        Iterator<Path> it = lost.iterator();
+
+        while (it.hasNext()) {
+
+            Path directory = it.next();
+
+            if (!Files.isDirectory(directory))
+                continue;
+
+            try {
+                // Nothing else to watch inside the directory
+                if (!rewatch(directory)) {
+                    it.remove();
+                    continue;
+                }
+            } catch (IOException e) {
+                // Deleted once more, it is checked again later
+                continue;
+            }
+
+            it.remove();
+
+            long deadline = System.nanoTime() + debounce;
+
+            // Any file written before the key was registered raised no event
+            for (Path file : files.keySet()) {
+                if (file.getParent().equals(directory) && Files.exists(file))
+                    pending.put(file, deadline);
+            }
+
+        }
+
+    }
+
+    /**
+     * Registers again a directory, unless a registration already did it
+     *
+     * @param directory The directory
+     * @return True if any file inside the directory is still registered, otherwise false
+     * @throws IOException If the directory cannot be watched
+     */
+    private synchronized boolean rewatch(Path directory) throws IOException {
+
+        if (closed || files.keySet().stream().noneMatch(f -> f.getParent().equals(directory)))
+            return false;
+
+        WatchKey key = directories.get(directory);
+
+        if (key == null || !key.isValid())
+            directories.put(directory, directory.register(service, ENTRY_CREATE, ENTRY_MODIFY));
+
+        return true;
+    }
+
+    /**
+     * Marks the registered files changed by the events of the given key, postponing their deadline
+     *
+     * @param key     The signalled key
+     * @param pending The files waiting to be reloaded
+     */
+    private void collect(WatchKey key, Map<Path, Long> pending) {
+
+        Path directory = (Path) key.watchable();
+        long deadline = System.nanoTime() + debounce;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+
+            if (event.kind() == OVERFLOW) {
+
+                // Events were lost, any file inside the directory could have changed
+                for (Path file : files.keySet()) {
+                    if (file.getParent().equals(directory))
+                        pending.put(file, deadline);
+                }
+
+            } else {
+
+                Path file = directory.resolve((Path) event.context());
+
+                if (files.containsKey(file))
+                    pending.put(file, deadline);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Submits the reloading tasks of the files whose deadline expired
+     *
+     * @param pending The files waiting to be reloaded
+     */
+    private void dispatch(Map<Path, Long> pending) {
+
+        long now = System.nanoTime();
+
+        Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator();
+
+        while (it.hasNext()) {
+
+            Map.Entry<Path, Long> e = it.next();
+
+            if (e.getValue() - now > 0)
+                continue;
+
+            it.remove();
+
+            List<Registration> registrations = files.get(e.getKey());
+
+            if (registrations == null)
+                continue;
+
+            for (Registration r : registrations) {
+
+                // A reload already in flight reads the file once more instead
+                if (!r.schedule())
+                    continue;
+
+                try {
+                    executor.execute(() -> reload(r));
+                } catch (RejectedExecutionException ex) {
+                    // Nothing is in flight, the next change schedules it again
+                    r.complete();
+                    fail(r, ex);
+                }
+
+            }
+
+        }
+
+    }
+
+    /**
+     * Reads the configuration file again, as long as it changes while being read
+     *
+     * @param registration The registered configuration
+     */
+    private void reload(Registration registration) {
+        do {
+            __reload(registration);
+        } while (registration.complete());
+    }
+
+    /**
+     * Reads the configuration file again and notifies the listeners
+     *
+     * @param registration The registered configuration
+     */
+    private void __reload(Registration registration) {
+
+        List<PropertyChange> changes;
+
+        try {
+            changes = registration.instance.reload(registration.type);
+        } catch (Exception e) {
+            fail(registration, e);
+            return;
+        }
+
+        for (Listener listener : listeners) {
+            try {
+                listener.onReload(registration.instance, changes);
+            } catch (RuntimeException ex) {
+                Configuration.report(ex);
+            }
+        }
+
+    }
+
+    /**
+     * Notifies the listeners that the configuration could not be reloaded
+     *
+     * @param registration The registered configuration
+     * @param e            The cause
+     */
+    private void fail(Registration registration, Exception e) {
+
+        for (Listener listener : listeners) {
+            try {
+                listener.onFailure(registration.instance, e);
+            } catch (RuntimeException ex) {
+                Configuration.report(ex);
+            }
+        }
+
+    }
+
+    /**
+     * Gets the normalized path of the configuration file
+     *
+     * @param instance The configuration instance
+     * @return The absolute {@link Path}
+     */
+    private static Path path(Configuration instance) {
+        return instance.getFile().toPath().toAbsolutePath().normalize();
+    }
+
+    /**
+     * The {@link Listener} interface is notified after each reloading task
+     */
+    public interface Listener {
+
+        /**
+         * Invoked after the configuration file was read again
+         *
+         * @param instance The configuration instance
+         * @param changes  The changes made by the reading, it can be empty
+         */
+        void onReload(Configuration instance, List<PropertyChange> changes);
+
+        /**
+         * Invoked if the configuration file could not be read again, the previous values are kept
+         *
+         * @param instance The configuration instance
+         * @param e        The exception thrown while reading, or while submitting the reloading task
+         */
+        default void onFailure(Configuration instance, Exception e) {
+        }
+
+    }
+
+    /**
+     * A configuration instance registered with its format, reloaded by one task at a time
+     */
+    private static final class Registration {
+
+        private final Configuration instance;
+        private final FormatType type;
+        private boolean running;
+        private boolean rerun;
+
+        private Registration(Configuration instance, FormatType type) {
+            this.instance = instance;
+            this.type = type;
+            this.running = false;
+            this.rerun = false;
+        }
+
+        /**
+         * Requests a reload
+         *
+         * @return True if a new task must be submitted, false if the one in flight reads the file once more
+         */
+        private synchronized boolean schedule() {
+
+            if (running) {
+                rerun = true;
+                return false;
+            }
+
+            running = true;
+
+            return true;
+        }
+
+        /**
+         * Completes a reload
+         *
+         * @return True if the file changed while it was read, so it must be read again
+         */
+        private synchronized boolean complete() {
+
+            if (rerun) {
+                rerun = false;
+                return true;
+            }
+
+            running = false;
+
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.utils.FormatType;
+import org.tinyconfiguration.abc.utils.IOExecutors;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * The {@link Configurations} class contains the operations which can be executed on many {@link Configuration} instances at once
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class Configurations {
+
+    private Configurations() {
+    }
+
+    /**
+     * Reads every configuration file in parallel on the shared I/O pool
+     *
+     * @param instances The configuration instances to read
+     * @param type      The configuration instances export type
+     * @return The {@link Report} describing the outcome of each reading task
+     * @see IOExecutors#shared()
+     */
+    public static Report readAll(Collection<Configuration> instances, FormatType type) {
+        return readAll(instances, type, IOExecutors.shared());
+    }
+
+    /**
+     * Reads every configuration file in parallel, waiting until all of them are done.
+     * <p>
+     * Each file is read on a single worker, which reuses its own parsers across files.
+     * A failure does not stop the other files, it is collected inside the returned {@link Report}.
+     *
+     * @param instances The configuration instances to read
+     * @param type      The configuration instances export type
+     * @param executor  The executor running the reading tasks
+     * @return The {@link Report} describing the outcome of each reading task
+     * @throws NullPointerException If any parameter or configuration instance is null
+     */
+    public static Report readAll(Collection<Configuration> instances, FormatType type, Executor executor) {
+
+        if (instances == null)
+            throw new NullPointerException("The configuration instances cannot be null");
+
+        if (type == null)
+            throw new NullPointerException("The export format cannot be null");
+
+        if (executor == null)
+            throw new NullPointerException("The executor cannot be null");
+
+        // Copying the instances, so the caller can not change them while reading
+        Configuration[] targets = instances.toArray(new Configuration[0]);
+
+        for (Configuration instance : targets) {
+            if (instance == null)
+                throw new NullPointerException("The configuration instance cannot be null");
+        }
+
+        // Each task writes only its own slot
+        long[] times = new long[targets.length];
+        Exception[] errors = new Exception[targets.length];
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[targets.length];
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < targets.length; i++) {
+
+            final int slot = i;
+
+            tasks[i] = CompletableFuture.runAsync(() -> {
+
+                long begin = System.nanoTime();
+
+                try {
+                    targets[slot].read(type);
+                } catch (Exception e) {
+                    errors[slot] = e;
+                } finally {
+                    times[slot] = System.nanoTime() - begin;
+                }
+
+            }, executor);
+        }
+
+        // Waiting, the slots are visible once every task is completed
+        CompletableFuture.allOf(tasks).join();
+
+        long wall = System.nanoTime() - start;
+
+        return new Report(targets, times, errors, wall);
+    }
+
+    /**
+     * The {@link Report} class contains the aggregated outcome of a batch operation
+     *
+     * @author G. Baittiner
+     * @version 0.1
+     */
+    public static final class Report {
+
+        private final List<Configuration> succeeded;
+        private final Map<Configuration, Exception> failures;
+        private final Map<Configuration, Duration> times;
+        private final Duration wallTime;
+        private final Duration totalTime;
+
+        private Report(Configuration[] targets, long[] times, Exception[] errors, long wall) {
+
+            List<Configuration> succeeded = new ArrayList<>();
+            Map<Configuration, Exception> failures = new LinkedHashMap<>();
+            Map<Configuration, Duration> durations = new LinkedHashMap<>();
+
+            long total = 0;
+
+            for (int i = 0; i < targets.length; i++) {
+
+                if (errors[i] == null)
+                    succeeded.add(targets[i]);
+                else
+                    failures.put(targets[i], errors[i]);
+
+                durations.put(targets[i], Duration.ofNanos(times[i]));
+
+                total += times[i];
+            }
+
+            this.succeeded = Collections.unmodifiableList(succeeded);
+            this.failures = Collections.unmodifiableMap(failures);
+            this.times = Collections.unmodifiableMap(durations);
+            this.wallTime = Duration.ofNanos(wall);
+            this.totalTime = Duration.ofNanos(total);
+        }
+
+        /**
+         * Check if every configuration was processed successfully
+         *
+         * @return True or false
+         */
+        public boolean isSuccessful() {
+            return this.failures.isEmpty();
+        }
+
+        /**
+         * Returns the configurations processed successfully
+         *
+         * @return The {@link List} of configurations, in the same order they were given
+         */
+        public List<Configuration> getSucceeded() {
+            return this.succeeded;
+        }
+
+        /**
+         * Returns the configurations which could not be processed, together with their exception
+         *
+         * @return The {@link Map} from each failed configuration to its exception
+         */
+        public Map<Configuration, Exception> getFailures() {
+            return this.failures;
+        }
+
+        /**
+         * Returns the time spent processing the given configuration
+         *
+         * @param instance The configuration instance
+         * @return The {@link Duration} of the task
+         * @throws NoSuchElementException If the configuration was not part of the batch
+         */
+        public Duration getTime(Configuration instance) {
+
+            Duration time = this.times.get(instance);
+
+            if (time == null)
+                throw new NoSuchElementException("The configuration was not part of the batch");
+
+            return time;
+        }
+
+        /**
+         * Returns the time elapsed from the first submission until the last task completed
+         *
+         * @return The wall-clock {@link Duration}
+         */
+        public Duration getWallTime() {
+            return this.wallTime;
+        }
+
+        /**
+         * Returns the sum of the time spent on each configuration, as if they were processed one by one
+         *
+         * @return The summed {@link Duration}
+         */
+        public Duration getTotalTime() {
+            return this.totalTime;
+        }
+
+        /**
+         * Returns how many times the batch was faster than processing the configurations one by one
+         *
+         * @return The ratio between the total time and the wall time
+         */
+        public double getSpeedup() {
+
+            long wall = this.wallTime.toNanos();
+
+            return wall == 0 ? 1.0 : (double) this.totalTime.toNanos() / wall;
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.DoubleValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link DoubleHandle} class is a typed accessor to a {@code double} property, resolved once through {@link Configuration#doubleHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class DoubleHandle extends Handle<DoubleValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    DoubleHandle(Property property) {
+        super(property, DoubleValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The double value contained by the property
+     */
+    public double get() {
+        return value().asDouble();
+    }
+
+    /**
+     * Converts a generic value to {@link DoubleValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    DoubleValue specialize(Value e) {
+        return new DoubleValue(e.asDouble());
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.FloatValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link FloatHandle} class is a typed accessor to a {@code float} property, resolved once through {@link Configuration#floatHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class FloatHandle extends Handle<FloatValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    FloatHandle(Property property) {
+        super(property, FloatValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The float value contained by the property
+     */
+    public float get() {
+        return value().asFloat();
+    }
+
+    /**
+     * Converts a generic value to {@link FloatValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    FloatValue specialize(Value e) {
+        return new FloatValue(e.asFloat());
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link Handle} class holds the property resolved by a typed accessor, together with the specialized value it last read
+ * <p>
+ * The value is read again from the property only when a reload or a setter replaced it,
+ * values updated in place are the same instance and always hold the latest data.
+ *
+ * @param <V> The specialized value type
+ * @author G. Baittiner
+ * @version 0.1
+ */
+abstract class Handle<V extends Value> {
+
+    private final Property property;
+    private final Class<V> type;
+    private V value;
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     * @param type     The specialized value type
+     */
+    Handle(Property property, Class<V> type) {
+        this.property = property;
+        this.type = type;
+        this.value = null;
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The specialized value currently held by the property
+     */
+    final V value() {
+
+        Value e = this.property.getValue();
+        V last = this.value;
+
+        // Nothing was published since the last call
+        if (e == last)
+            return last;
+
+        return __resolve(e);
+    }
+
+    /**
+     * Caches the value published by the property
+     *
+     * @param e The value currently held by the property
+     * @return The specialized value
+     */
+    private V __resolve(Value e) {
+
+        // Racy but safe, the value was already published by the property
+        if (type.isInstance(e)) {
+            V v = type.cast(e);
+            this.value = v;
+            return v;
+        }
+
+        // Generic values are converted on each call, they are not expected on primitive properties
+        return specialize(e);
+    }
+
+    /**
+     * Converts a generic value to the specialized type
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    abstract V specialize(Value e);
+
+    /**
+     * Gets the property
+     *
+     * @return The {@link Property} this handle was resolved to
+     */
+    public final Property getProperty() {
+        return this.property;
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.IntValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link IntHandle} class is a typed accessor to a {@code int} property, resolved once through {@link Configuration#intHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class IntHandle extends Handle<IntValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    IntHandle(Property property) {
+        super(property, IntValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The integer value contained by the property
+     */
+    public int get() {
+        return value().asInt();
+    }
+
+    /**
+     * Converts a generic value to {@link IntValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    IntValue specialize(Value e) {
+        return new IntValue(e.asInt());
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.LongValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link LongHandle} class is a typed accessor to a {@code long} property, resolved once through {@link Configuration#longHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class LongHandle extends Handle<LongValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    LongHandle(Property property) {
+        super(property, LongValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The long value contained by the property
+     */
+    public long get() {
+        return value().asLong();
+    }
+
+    /**
+     * Converts a generic value to {@link LongValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    LongValue specialize(Value e) {
+        return new LongValue(e.asLong());
+    }
+
+}
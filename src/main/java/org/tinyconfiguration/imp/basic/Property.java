@@ -3,8 +3,11 @@ package org.tinyconfiguration.imp.basic;
 import org.tinyconfiguration.abc.AbstractProperty;
 import org.tinyconfiguration.abc.builders.AbstractBuilder;
 import org.tinyconfiguration.abc.builders.Mutable;
-import org.tinyconfiguration.abc.data.Value;
+import org.tinyconfiguration.abc.data.*;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 
 /**
@@ -17,6 +20,7 @@ public final class Property extends AbstractProperty {
 
     private final boolean isOptional;
     private final Predicate<Property> isValid;
+    private volatile List<Listener> listeners;
 
     /**
      * Private empty constructor
@@ -56,6 +60,137 @@ public final class Property extends AbstractProperty {
         this.value = new Value(value);
     }
 
+    /**
+     * Sets an already built value on this property
+     *
+     * @param value The new value
+     * @throws NullPointerException     If the value is null
+     * @throws IllegalArgumentException If the class type is different from the one declared
+     */
+    @Override
+    protected final void set(Value value) {
+
+        if (value == null) {
+            throw new NullPointerException("The value cannot be null");
+        }
+
+        if (this.value.getType() != value.getType()) {
+            throw new IllegalArgumentException("The value must be of the same class as the one declared");
+        }
+
+        this.value = value;
+    }
+
+    /**
+     * Creates a detached copy of this property, updating the copy never changes this property
+     *
+     * @return The {@link Property} copy
+     */
+    Property copy() {
+        // Values are shared unless they can be updated in place
+        return new Property(key, detach(value), description, isOptional, isValid);
+    }
+
+    /**
+     * Publishes a value decoded on a detached copy of this property
+     *
+     * @param decoded The decoded value
+     */
+    void publish(Value decoded) {
+
+        if (!this.value.isMutable()) {
+            // Single volatile write
+            this.value = decoded;
+            return;
+        }
+
+        switch (decoded.getDatatype()) {
+            case BOOLEAN:
+                setValue(decoded.asBoolean());
+                break;
+            case CHAR:
+                setValue(decoded.asCharacter());
+                break;
+            case BYTE:
+                setValue(decoded.asByte());
+                break;
+            case SHORT:
+                setValue(decoded.asShort());
+                break;
+            case INT:
+                setValue(decoded.asInt());
+                break;
+            case LONG:
+                setValue(decoded.asLong());
+                break;
+            case FLOAT:
+                setValue(decoded.asFloat());
+                break;
+            case DOUBLE:
+                setValue(decoded.asDouble());
+                break;
+            default:
+                this.value = decoded;
+                break;
+        }
+
+    }
+
+    /**
+     * Adds a listener notified whenever reading the configuration file changes the value of this property
+     *
+     * @param listener The listener
+     * @throws NullPointerException If the listener is null
+     */
+    public void addListener(Listener listener) {
+
+        if (listener == null)
+            throw new NullPointerException("The listener cannot be null");
+
+        // Most properties are never listened, the list is created on demand
+        synchronized (this) {
+            if (this.listeners == null)
+                this.listeners = new CopyOnWriteArrayList<>();
+        }
+
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener
+     *
+     * @param listener The listener
+     * @return True if the listener was added before, otherwise false
+     */
+    public boolean removeListener(Listener listener) {
+
+        List<Listener> e = this.listeners;
+
+        return e != null && e.remove(listener);
+    }
+
+    /**
+     * Notifies the listeners of this property
+     *
+     * @param change The change of the value
+     */
+    void notify(PropertyChange change) {
+
+        List<Listener> e = this.listeners;
+
+        if (e == null)
+            return;
+
+        for (Listener listener : e) {
+            try {
+                listener.onChange(change);
+            } catch (RuntimeException ex) {
+                Configuration.report(ex);
+            }
+        }
+
+    }
+
     /**
      * Gets the optionality
      *
@@ -83,6 +218,146 @@ public final class Property extends AbstractProperty {
         return isValid;
     }
 
+    /**
+     * Gets a value which never changes, copying it if it can be updated in place
+     *
+     * @param value The value
+     * @return The value itself or its immutable copy
+     */
+    static Value detach(Value value) {
+        return value.isMutable() ? primitive(value, false) : value;
+    }
+
+    /**
+     * Check if two values hold the same data, primitives are compared by value and anything else by identity
+     *
+     * @param a The first value
+     * @param b The second value
+     * @return True or false
+     */
+    static boolean same(Value a, Value b) {
+
+        if (a == b)
+            return true;
+
+        if (a.getDatatype() != b.getDatatype())
+            return false;
+
+        switch (a.getDatatype()) {
+            case BOOLEAN:
+                return a.asBoolean() == b.asBoolean();
+            case CHAR:
+                return a.asCharacter() == b.asCharacter();
+            case BYTE:
+                return a.asByte() == b.asByte();
+            case SHORT:
+                return a.asShort() == b.asShort();
+            case INT:
+                return a.asInt() == b.asInt();
+            case LONG:
+                return a.asLong() == b.asLong();
+            case FLOAT:
+                return Float.compare(a.asFloat(), b.asFloat()) == 0;
+            case DOUBLE:
+                return Double.compare(a.asDouble(), b.asDouble()) == 0;
+            default:
+                return false;
+        }
+
+    }
+
+    /**
+     * Check if two values hold equal data, arrays are compared element by element
+     *
+     * @param a The first value
+     * @param b The second value
+     * @return True or false
+     */
+    static boolean equal(Value a, Value b) {
+
+        if (same(a, b))
+            return true;
+
+        if (a.getDatatype() != b.getDatatype() || a.getType() != b.getType())
+            return false;
+
+        switch (a.getDatatype()) {
+            case STRING:
+            case CHAR:
+                return a.asString().equals(b.asString());
+            case ARR_STRING:
+                return Arrays.equals(a.asStringArray(), b.asStringArray());
+            default:
+                break;
+        }
+
+        // Only primitive arrays are left
+        if (a.getType() == boolean[].class)
+            return Arrays.equals(a.asBooleanArray(), b.asBooleanArray());
+        else if (a.getType() == char[].class)
+            return Arrays.equals(a.asCharacterArray(), b.asCharacterArray());
+        else if (a.getType() == byte[].class)
+            return Arrays.equals(a.asByteArray(), b.asByteArray());
+        else if (a.getType() == short[].class)
+            return Arrays.equals(a.asShortArray(), b.asShortArray());
+        else if (a.getType() == int[].class)
+            return Arrays.equals(a.asIntArray(), b.asIntArray());
+        else if (a.getType() == long[].class)
+            return Arrays.equals(a.asLongArray(), b.asLongArray());
+        else if (a.getType() == float[].class)
+            return Arrays.equals(a.asFloatArray(), b.asFloatArray());
+        else if (a.getType() == double[].class)
+            return Arrays.equals(a.asDoubleArray(), b.asDoubleArray());
+
+        return false;
+    }
+
+    /**
+     * Copies a primitive value
+     *
+     * @param value   The value to copy
+     * @param mutable If true the copy can be updated in place
+     * @return The copy, or the value itself if it is not primitive
+     */
+    private static Value primitive(Value value, boolean mutable) {
+
+        switch (value.getDatatype()) {
+            case BOOLEAN:
+                return new BooleanValue(value.asBoolean(), mutable);
+            case CHAR:
+                return new CharValue(value.asCharacter(), mutable);
+            case BYTE:
+                return new ByteValue(value.asByte(), mutable);
+            case SHORT:
+                return new ShortValue(value.asShort(), mutable);
+            case INT:
+                return new IntValue(value.asInt(), mutable);
+            case LONG:
+                return new LongValue(value.asLong(), mutable);
+            case FLOAT:
+                return new FloatValue(value.asFloat(), mutable);
+            case DOUBLE:
+                return new DoubleValue(value.asDouble(), mutable);
+            default:
+                return value;
+        }
+
+    }
+
+    /**
+     * The {@link Listener} interface is notified when reading the configuration file changes the value of a property
+     */
+    public interface Listener {
+
+        /**
+         * Invoked after the new value was published
+         *
+         * @param change The change of the value
+         */
+        void onChange(PropertyChange change);
+
+    }
+
     /**
      * The {@link Builder} class is used to build the {@link Property} object
      *
@@ -96,6 +371,7 @@ public final class Property extends AbstractProperty {
         private Value value;
         private String description;
         private boolean isOptional;
+        private boolean isInPlace;
         private Predicate<Property> isValid;
 
         /**
@@ -106,6 +382,7 @@ public final class Property extends AbstractProperty {
             this.value = null;
             this.description = null;
             this.isOptional = false;
+            this.isInPlace = false;
             this.isValid = null;
             this.isCleanable = true;
         }
@@ -120,6 +397,7 @@ public final class Property extends AbstractProperty {
             this.value = null;
             this.description = null;
             this.isOptional = false;
+            this.isInPlace = false;
             this.isValid = null;
             this.isCleanable = isCleanable;
         }
@@ -179,6 +457,20 @@ public final class Property extends AbstractProperty {
             return this;
         }
 
+        /**
+         * Sets the in-place updates, available only on primitive values.
+         *
+         * <p>If true, setting a new primitive value updates the stored one without allocating,
+         * so the {@link Value} previously returned by {@link Property#getValue()} reflects the update.</p>
+         *
+         * @param inPlace The in-place value
+         * @return The {@link Builder} current instance
+         */
+        public Builder setInPlace(boolean inPlace) {
+            isInPlace = inPlace;
+            return this;
+        }
+
         /**
          * Sets the validator function
          *
@@ -205,6 +497,7 @@ public final class Property extends AbstractProperty {
             this.description = null;
             this.isValid = null;
             this.isOptional = false;
+            this.isInPlace = false;
 
         }
 
@@ -226,7 +519,7 @@ public final class Property extends AbstractProperty {
             if (this.description == null)
                 throw new NullPointerException("The description must be set!");
 
-            Property e = new Property(key, value, description, isOptional, isValid);
+            Property e = new Property(key, isInPlace ? primitive(value, true) : value, description, isOptional, isValid);
 
             if (isCleanable)
                 clear();
@@ -258,7 +551,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(boolean b) {
-            this.value = new Value(b);
+            this.value = new BooleanValue(b);
             return this;
         }
 
@@ -272,7 +565,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(char c) {
-            this.value = new Value(c);
+            this.value = new CharValue(c);
             return this;
         }
 
@@ -286,7 +579,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(byte b) {
-            this.value = new Value(b);
+            this.value = new ByteValue(b);
             return this;
         }
 
@@ -300,7 +593,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(short s) {
-            this.value = new Value(s);
+            this.value = new ShortValue(s);
             return this;
         }
 
@@ -314,7 +607,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(int i) {
-            this.value = new Value(i);
+            this.value = new IntValue(i);
             return this;
         }
 
@@ -328,7 +621,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(long l) {
-            this.value = new Value(l);
+            this.value = new LongValue(l);
             return this;
         }
 
@@ -342,7 +635,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(float f) {
-            this.value = new Value(f);
+            this.value = new FloatValue(f);
             return this;
         }
 
@@ -356,7 +649,7 @@ public final class Property extends AbstractProperty {
          */
         @Override
         public Builder setValue(double d) {
-            this.value = new Value(d);
+            this.value = new DoubleValue(d);
             return this;
         }
 
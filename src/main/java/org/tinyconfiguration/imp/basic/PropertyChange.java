@@ -0,0 +1,66 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link PropertyChange} class describes a value changed by reading the configuration file
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class PropertyChange {
+
+    private final Property property;
+    private final Value previous;
+    private final Value current;
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The changed property
+     * @param previous The value before the reading
+     * @param current  The value after the reading
+     */
+    PropertyChange(Property property, Value previous, Value current) {
+        this.property = property;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    /**
+     * Gets the changed property
+     *
+     * @return The {@link Property} instance
+     */
+    public Property getProperty() {
+        return property;
+    }
+
+    /**
+     * Gets the key of the changed property
+     *
+     * @return The key ({@link String}) associated to the property object.
+     */
+    public String getKey() {
+        return property.getKey();
+    }
+
+    /**
+     * Gets the value before the reading
+     *
+     * @return The previous {@link Value}
+     */
+    public Value getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Gets the value after the reading
+     *
+     * @return The current {@link Value}
+     */
+    public Value getCurrent() {
+        return current;
+    }
+
+}
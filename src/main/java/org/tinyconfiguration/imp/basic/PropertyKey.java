@@ -0,0 +1,40 @@
+package org.tinyconfiguration.imp.basic;
+
+/**
+ * The {@link PropertyKey} class is a pre-resolved handle to a {@link Property} of a specific {@link Configuration} instance.
+ * <p>
+ * It is obtained once through {@link Configuration#key(String)}, then {@link Configuration#lookup(PropertyKey)}
+ * dereferences it without hashing the key.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class PropertyKey {
+
+    final Property[] slots;
+    final int index;
+    private final String key;
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param slots The properties table it was resolved on
+     * @param index The property position inside the table
+     * @param key   The property key
+     */
+    PropertyKey(Property[] slots, int index, String key) {
+        this.slots = slots;
+        this.index = index;
+        this.key = key;
+    }
+
+    /**
+     * Gets the key
+     *
+     * @return The key ({@link String}) this handle was resolved from
+     */
+    public String getKey() {
+        return key;
+    }
+
+}
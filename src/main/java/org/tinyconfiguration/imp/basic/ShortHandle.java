@@ -0,0 +1,45 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.ShortValue;
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link ShortHandle} class is a typed accessor to a {@code short} property, resolved once through {@link Configuration#shortHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class ShortHandle extends Handle<ShortValue> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    ShortHandle(Property property) {
+        super(property, ShortValue.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The short value contained by the property
+     */
+    public short get() {
+        return value().asShort();
+    }
+
+    /**
+     * Converts a generic value to {@link ShortValue}
+     *
+     * @param e The generic value
+     * @return The specialized value
+     */
+    @Override
+    ShortValue specialize(Value e) {
+        return new ShortValue(e.asShort());
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.data.Value;
+
+/**
+ * The {@link StringHandle} class is a typed accessor to a {@code String} property, resolved once through {@link Configuration#stringHandle(String)}
+ * <p>
+ * Each call to {@link #get()} reads the latest value, including the ones published by a reload.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+public final class StringHandle extends Handle<Value> {
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param property The property instance
+     */
+    StringHandle(Property property) {
+        super(property, Value.class);
+    }
+
+    /**
+     * Returns the current value
+     *
+     * @return The {@link String} value contained by the property
+     */
+    public String get() {
+        return value().asString();
+    }
+
+    /**
+     * Text values are not specialized
+     *
+     * @param e The generic value
+     * @return The value itself
+     */
+    @Override
+    Value specialize(Value e) {
+        return e;
+    }
+
+}
@@ -0,0 +1,168 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.tinyconfiguration.abc.utils.FormatType;
+import org.tinyconfiguration.abc.utils.IOExecutors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * The {@link WriteBehind} class coalesces the asynchronous writing requests of a single {@link Configuration} instance.
+ * <p>
+ * The requests made within the window, or while a writing task is in flight, are served by a single write
+ * which completes all of them. Only one writing task per configuration is in flight at any time.
+ *
+ * @author G. Baittiner
+ * @version 0.1
+ */
+final class WriteBehind {
+
+    private final Configuration instance;
+    private final Duration window;
+
+    /**
+     * The request waiting for each format, guarded by this
+     */
+    private final Map<FormatType, CompletableFuture<Void>> pending;
+    private boolean running;
+
+    /**
+     * Package-private constructor with parameters
+     *
+     * @param instance The configuration instance to write
+     * @param window   How long the first request waits for the following ones
+     */
+    WriteBehind(Configuration instance, Duration window) {
+        this.instance = instance;
+        this.window = window;
+        this.pending = new EnumMap<>(FormatType.class);
+    }
+
+    /**
+     * Requests the configuration file to be written
+     *
+     * @param type     The configuration instance export type
+     * @param executor The executor running the writing task, if a new one is started
+     * @return Future object completed by the write serving the request
+     */
+    CompletableFuture<Void> submit(FormatType type, Executor executor) {
+
+        CompletableFuture<Void> e;
+        boolean start = false;
+
+        synchronized (this) {
+
+            e = pending.get(type);
+
+            if (e == null) {
+
+                e = new CompletableFuture<>();
+                pending.put(type, e);
+
+                if (!running) {
+                    running = true;
+                    start = true;
+                }
+
+            }
+
+        }
+
+        if (start)
+            dispatch(executor);
+
+        // Each caller gets its own stage, cancelling it does not affect the others
+        return e.thenApply(Function.identity());
+    }
+
+    /**
+     * Starts the writing task once the window elapsed
+     *
+     * @param executor The executor running the writing task
+     */
+    private void dispatch(Executor executor) {
+
+        Runnable start = () -> {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        };
+
+        if (window.isZero())
+            start.run();
+        else
+            // The timer only hands the task over
+            IOExecutors.delayed(window, Runnable::run).execute(start);
+    }
+
+    /**
+     * Writes the file until no request is left, the requests made meanwhile are served by the next write
+     */
+    private void drain() {
+
+        while (true) {
+
+            FormatType type;
+            CompletableFuture<Void> e;
+
+            synchronized (this) {
+
+                Iterator<Map.Entry<FormatType, CompletableFuture<Void>>> it = pending.entrySet().iterator();
+
+                if (!it.hasNext()) {
+                    running = false;
+                    return;
+                }
+
+                Map.Entry<FormatType, CompletableFuture<Void>> next = it.next();
+
+                // The entry cannot be used once it is removed
+                type = next.getKey();
+                e = next.getValue();
+
+                it.remove();
+            }
+
+            try {
+                instance.write(type);
+                e.complete(null);
+            } catch (Throwable ex) {
+                // The following requests are still served
+                e.completeExceptionally(ex);
+            }
+
+        }
+
+    }
+
+    /**
+     * Fails every waiting request, since the writing task could not be started
+     *
+     * @param error The reason
+     */
+    private void fail(Throwable error) {
+
+        List<CompletableFuture<Void>> failed;
+
+        synchronized (this) {
+            failed = new ArrayList<>(pending.values());
+            pending.clear();
+            running = false;
+        }
+
+        for (CompletableFuture<Void> e : failed) {
+            e.completeExceptionally(error);
+        }
+
+    }
+
+}
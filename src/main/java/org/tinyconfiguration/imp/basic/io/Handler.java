@@ -1,5 +1,6 @@
 package org.tinyconfiguration.imp.basic.io;
 
+import org.tinyconfiguration.abc.data.Value;
 import org.tinyconfiguration.imp.basic.Configuration;
 import org.tinyconfiguration.imp.basic.Property;
 import org.tinyconfiguration.imp.basic.ex.configuration.InvalidConfigurationNameException;
@@ -7,11 +8,58 @@ import org.tinyconfiguration.imp.basic.ex.configuration.InvalidConfigurationVers
 import org.tinyconfiguration.imp.basic.ex.configuration.MissingConfigurationIdentifiersException;
 import org.tinyconfiguration.imp.basic.ex.io.ParsingProcessException;
 import org.tinyconfiguration.imp.basic.ex.property.DuplicatedConfigurationPropertyException;
+import org.tinyconfiguration.imp.basic.ex.property.InvalidConfigurationPropertyException;
 import org.tinyconfiguration.imp.basic.ex.property.MalformedConfigurationPropertyException;
+import org.tinyconfiguration.imp.basic.ex.property.UnknownConfigurationPropertyException;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 import org.yaml.snakeyaml.events.Event;
 import org.yaml.snakeyaml.events.ScalarEvent;
 
+import javax.json.*;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.json.stream.JsonParserFactory;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import java.io.*;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
 
 /**
  * This is an utility class for the handlers implementations
@@ -139,6 +187,376 @@ final class Handler {
             }
         }
 
+        /**
+         * This method decode the textual values of an array-only property
+         *
+         * @param property The property instance
+         * @param values   The textual values, in order
+         */
+        static void __decode_values(Property property, List<String> values) throws MalformedConfigurationPropertyException {
+
+            // Just assigning empty arrays
+            if (values.isEmpty()) {
+                __empty_array(property);
+                return;
+            }
+
+            switch (property.getValue().getDatatype()) {
+                case ARR_BOOLEAN:
+                    try {
+                        boolean[] booleans = new boolean[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+                            booleans[i] = Boolean.parseBoolean(values.get(i));
+                        }
+                        property.setValue(booleans);
+                    } catch (Exception e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as boolean array: " + e.getMessage(), property);
+                    }
+                    break;
+                case ARR_BYTE:
+                    try {
+                        byte[] bytes = new byte[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+                            bytes[i] = Byte.parseByte(values.get(i));
+                        }
+                        property.setValue(bytes);
+                    } catch (NumberFormatException e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as byte array: " + e.getMessage(), property);
+                    }
+                    break;
+                case ARR_SHORT:
+                    try {
+                        short[] shorts = new short[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+                            shorts[i] = Short.parseShort(values.get(i));
+                        }
+                        property.setValue(shorts);
+                    } catch (NumberFormatException e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as short array: " + e.getMessage(), property);
+                    }
+                    break;
+                case ARR_INT:
+                    try {
+                        int[] integers = new int[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+                            integers[i] = Integer.parseInt(values.get(i));
+                        }
+                        property.setValue(integers);
+                    } catch (NumberFormatException e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as int array: " + e.getMessage(), property);
+                    }
+                    break;
+                case ARR_LONG:
+                    try {
+                        long[] longs = new long[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+                            longs[i] = Long.parseLong(values.get(i));
+                        }
+                        property.setValue(longs);
+                    } catch (NumberFormatException e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as long array: " + e.getMessage(), property);
+                    }
+                    break;
+                case ARR_FLOAT:
+                    try {
+                        float[] floats = new float[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+                            floats[i] = Float.parseFloat(values.get(i));
+                        }
+                        property.setValue(floats);
+                    } catch (NumberFormatException e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as float array: " + e.getMessage(), property);
+                    }
+                    break;
+                case ARR_DOUBLE:
+                    try {
+                        double[] doubles = new double[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+                            doubles[i] = Double.parseDouble(values.get(i));
+                        }
+                        property.setValue(doubles);
+                    } catch (NumberFormatException e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as double array: " + e.getMessage(), property);
+                    }
+                    break;
+                case ARR_STRING:
+                    property.setValue(values.toArray(new String[0]));
+                    break;
+                case ARR_CHAR:
+                    try {
+                        char[] characters = new char[values.size()];
+                        for (int i = 0; i < values.size(); ++i) {
+
+                            if (values.get(i).length() > 1) {
+                                throw new IllegalArgumentException("One of the values cannot be decoded as char");
+                            }
+
+                            characters[i] = values.get(i).charAt(0);
+                        }
+                        property.setValue(characters);
+                    } catch (Exception e) {
+                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as chars array: " + e.getMessage(), property);
+                    }
+                    break;
+                default:
+                    throw new MalformedConfigurationPropertyException("Unexpected values: " + values, property);
+            }
+        }
+
+        static final class JSON {
+
+            /**
+             * This method reports an entry of the properties array which is not an object,
+             * blaming the first declared property as the reading did before the properties were indexed
+             *
+             * @param instance The configuration instance
+             * @param type     The type of the entry
+             * @return The exception to throw
+             * @throws UnknownConfigurationPropertyException If no property is declared, so no entry was expected
+             */
+            public static MalformedConfigurationPropertyException __malformed_entry(Configuration instance, String type) throws UnknownConfigurationPropertyException {
+
+                Iterator<Property> it = instance.getPropertiesView().iterator();
+
+                if (!it.hasNext())
+                    throw new UnknownConfigurationPropertyException();
+
+                return new MalformedConfigurationPropertyException("It was expecting an OBJECT type but an " + type + " type was found", it.next());
+            }
+
+            /**
+             * This method is specific JSON implementation to decode object-only property
+             *
+             * @param property The property instance
+             * @param obj      The property value
+             * @see HandlerJSON.ImplReaderJSON#__decode_obj(Property, JsonObject)
+             */
+            public static void __decode_obj(Property property, JsonValue obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+
+                Value value = property.getValue();
+
+                switch (obj.getValueType()) {
+
+                    case STRING:
+
+                        String s = ((JsonString) obj).getString();
+
+                        if (value.isString()) {
+                            property.setValue(s);
+                        } else if (value.isCharacter()) {
+
+                            if (s.length() > 1) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
+                            }
+
+                            property.setValue(s.charAt(0));
+
+                        } else {
+                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
+                        }
+
+                        break;
+                    case NUMBER:
+
+                        JsonNumber number = (JsonNumber) obj;
+
+                        if (value.isByte()) {
+
+                            try {
+                                property.setValue(number.bigIntegerValueExact().byteValueExact());
+                            } catch (ArithmeticException ex) {
+                                throw new MalformedConfigurationPropertyException("The value is out of byte range", property);
+                            }
+
+                        } else if (value.isShort()) {
+
+                            try {
+                                property.setValue(number.bigIntegerValueExact().shortValueExact());
+                            } catch (ArithmeticException ex) {
+                                throw new MalformedConfigurationPropertyException("The value is out of short range", property);
+                            }
+
+                        } else if (value.isInteger()) {
+
+                            try {
+                                property.setValue(number.bigIntegerValueExact().intValueExact());
+                            } catch (ArithmeticException ex) {
+                                throw new MalformedConfigurationPropertyException("The value is out of int range", property);
+                            }
+
+                        } else if (value.isLong()) {
+
+                            try {
+                                property.setValue(number.bigIntegerValueExact().longValueExact());
+                            } catch (ArithmeticException ex) {
+                                throw new MalformedConfigurationPropertyException("The value is out of long range", property);
+                            }
+
+                        } else if (value.isFloat()) {
+                            property.setValue(number.bigDecimalValue().floatValue());
+                        } else if (value.isDouble()) {
+                            property.setValue(number.bigDecimalValue().doubleValue());
+                        } else {
+                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
+                        }
+                        break;
+                    case TRUE:
+                    case FALSE:
+                        if (value.isBoolean())
+                            property.setValue(obj.getValueType() == JsonValue.ValueType.TRUE);
+                        else {
+                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
+                        }
+                        break;
+                    case NULL:
+                        throw new MalformedConfigurationPropertyException("The value was NULL", property);
+                    default:
+                        throw new MalformedConfigurationPropertyException("Unexpected value: " + obj.getValueType(), property);
+                }
+
+                // Final check
+                if (!property.isValid()) {
+                    throw new InvalidConfigurationPropertyException("The validation test failed", property);
+                }
+
+            }
+
+            /**
+             * This method is specific JSON implementation to decode array-only property
+             *
+             * @param property The property instance
+             * @param array    The property values
+             * @see HandlerJSON.ImplReaderJSON#__decode_array(Property, JsonObject)
+             */
+            public static void __decode_array(Property property, JsonArray array) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+
+                Value value = property.getValue();
+
+                // If the array is empty...
+                if (array.size() == 0) {
+
+                    // Just assigning empty arrays
+                    Handler.Internal.__empty_array(property);
+
+                } else {
+
+                    switch (value.getDatatype()) {
+                        case ARR_BOOLEAN:
+                            try {
+                                boolean[] booleans = new boolean[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    booleans[i] = array.getBoolean(i);
+                                }
+                                property.setValue(booleans);
+                            } catch (Exception e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as boolean array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_BYTE:
+                            try {
+                                byte[] bytes = new byte[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    bytes[i] = array.getJsonNumber(i).bigIntegerValueExact().byteValueExact();
+                                }
+                                property.setValue(bytes);
+                            } catch (RuntimeException e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as byte array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_SHORT:
+                            try {
+                                short[] shorts = new short[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    shorts[i] = array.getJsonNumber(i).bigIntegerValueExact().shortValueExact();
+                                }
+                                property.setValue(shorts);
+                            } catch (RuntimeException e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as short array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_INT:
+                            try {
+                                int[] integers = new int[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    integers[i] = array.getJsonNumber(i).intValueExact();
+                                }
+                                property.setValue(integers);
+                            } catch (RuntimeException e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as int array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_LONG:
+                            try {
+                                long[] longs = new long[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    longs[i] = array.getJsonNumber(i).longValueExact();
+                                }
+                                property.setValue(longs);
+                            } catch (RuntimeException e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as long array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_FLOAT:
+                            try {
+                                float[] floats = new float[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    floats[i] = array.getJsonNumber(i).bigDecimalValue().floatValue();
+                                }
+                                property.setValue(floats);
+                            } catch (Exception e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as float array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_DOUBLE:
+                            try {
+                                double[] doubles = new double[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    doubles[i] = array.getJsonNumber(i).bigDecimalValue().doubleValue();
+                                }
+                                property.setValue(doubles);
+                            } catch (Exception e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as double array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_STRING:
+                            try {
+                                String[] strings = new String[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+                                    strings[i] = array.getString(i);
+                                }
+                                property.setValue(strings);
+                            } catch (Exception e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as string array: " + e.getMessage(), property);
+                            }
+                            break;
+                        case ARR_CHAR:
+                            try {
+                                char[] characters = new char[array.size()];
+                                for (int i = 0; i < array.size(); ++i) {
+
+                                    if (array.getString(i).length() > 1) {
+                                        throw new IllegalArgumentException("One of the values cannot be decoded as char");
+                                    }
+
+                                    characters[i] = array.getString(i).charAt(0);
+                                }
+                                property.setValue(characters);
+                            } catch (Exception e) {
+                                throw new MalformedConfigurationPropertyException("The value cannot be decoded as chars array: " + e.getMessage(), property);
+                            }
+                            break;
+                    }
+
+                    // Final check
+                    if (!property.isValid()) {
+                        throw new InvalidConfigurationPropertyException("The validation test failed", property);
+                    }
+
+                }
+            }
+
+        }
+
         static final class YAML {
 
             /**
@@ -147,7 +565,7 @@ final class Handler {
              * @param graph The intermediate representation
              * @see Handler.Internal#__decode_header(Configuration, String, String)
              */
-            public static void __decode_header(Configuration instance, ArrayDeque<Event> graph) throws
+            public static void __decode_header(Configuration instance, Events graph) throws
                     MissingConfigurationIdentifiersException,
                     InvalidConfigurationNameException,
                     InvalidConfigurationVersionException, ParsingProcessException {
@@ -198,7 +616,7 @@ final class Handler {
 
                             // Now if properties is followed by a sequence start (properties list)
                             if (e0.getEventId() == Event.ID.SequenceStart) {
-                                // We can stop there, honestly it may be more accurate but i will fix that later
+                                // We can stop there, the properties are decoded as they are read
                                 stop = true;
                             }
 
@@ -214,20 +632,6 @@ final class Handler {
                     throw new ParsingProcessException("The 'properties' array is missing");
                 }
 
-                /* Now, removing the last four tag, which are:
-                 *  - SequenceEndEvent => Means the properties list has finished
-                 *  - MappingEndEvent  => Means the configuration object mapping has finished
-                 *  - DocumentEndEvent => Means the document has been parsed
-                 *  - StreamEndEvent   => Means the stream is going to close now
-                 * _____________________________________________
-                 *  This operation will simplify the parsing process,
-                 *  those tag are not really that useful...
-                 */
-
-                for (int i = 0; i < 4; ++i) {
-                    graph.removeLast();
-                }
-
             }
 
             /**
@@ -236,16 +640,28 @@ final class Handler {
              * @param instance The configuration instance
              * @param graph    The intermediate representation
              * @return The simplified intermediate representation
+             * @throws UnknownConfigurationPropertyException If there are more properties inside the file than the one declared
              */
-            public static Map<String, Map<String, Object>> __decode_properties(Configuration instance, ArrayDeque<Event> graph) throws ParsingProcessException, DuplicatedConfigurationPropertyException {
+            public static Map<String, Map<String, Object>> __decode_properties(Configuration instance, Events graph) throws ParsingProcessException, DuplicatedConfigurationPropertyException, UnknownConfigurationPropertyException {
 
                 Map<String, Map<String, Object>> properties = new LinkedHashMap<>();
 
+                // Building the key index once, instead of looking up the whole list on each scalar
+                Map<String, Property> index = new HashMap<>();
+
+                for (Property property : instance.getPropertiesView()) {
+                    index.put(property.getKey(), property);
+                }
+
                 List<String> array = new ArrayList<>();
                 boolean isArray = false;
 
                 Property current = null;
 
+                // Each property is a mapping, so they are counted while reading
+                int read = 0;
+                int expected = index.size();
+
                 while (graph.peek() != null) {
 
                     Event e = graph.poll();
@@ -253,6 +669,9 @@ final class Handler {
                     switch (e.getEventId()) {
                         // Open and close properties tag
                         case MappingStart:
+                            if (++read > expected)
+                                throw new UnknownConfigurationPropertyException();
+                            break;
                         case MappingEnd:
                             break;
                         // Open and close array values
@@ -272,6 +691,10 @@ final class Handler {
                             // Stop there
                             break;
                         case SequenceEnd:
+                            // This one closes the properties list, anything after it is not needed
+                            if (!isArray) {
+                                return properties;
+                            }
                             // Verifying correct parsing
                             if (current == null) {
                                 throw new ParsingProcessException("It was not possible to decode property");
@@ -296,7 +719,7 @@ final class Handler {
                                 // Inserting
                                 array.add(o.getValue());
                             } else {
-                                current = __decode_property(instance, graph, properties, current, o);
+                                current = __decode_property(index, graph, properties, current, o);
                             }
 
                             break;
@@ -306,21 +729,20 @@ final class Handler {
 
                 }
 
-                return properties;
+                // The stream ended before closing the properties list
+                throw new ParsingProcessException("Invalid properties encoding");
 
             }
 
-            private static Property __decode_property(Configuration instance, ArrayDeque<Event> graph, Map<String, Map<String, Object>> properties, Property property, ScalarEvent o) throws ParsingProcessException, DuplicatedConfigurationPropertyException {
+            private static Property __decode_property(Map<String, Property> index, Events graph, Map<String, Map<String, Object>> properties, Property property, ScalarEvent o) throws ParsingProcessException, DuplicatedConfigurationPropertyException {
                 // Checking if this value is a property name
-                Optional<Property> p = instance.getProperties().stream().
-                        filter(pr -> o.getValue().equals(pr.getKey())).
-                        findFirst();
+                Property p = index.get(o.getValue());
 
                 // It's a property value
-                if (p.isPresent()) {
+                if (p != null) {
 
                     // We store the key
-                    property = p.get();
+                    property = p;
 
                     // If the next value is another scalar, we have found out the value
                     if (graph.peek() != null && graph.peek().getEventId() == Event.ID.Scalar) {
@@ -353,7 +775,7 @@ final class Handler {
                 return property;
             }
 
-            private static String __decode_description(String current_property, ArrayDeque<Event> graph) throws ParsingProcessException {
+            private static String __decode_description(String current_property, Events graph) throws ParsingProcessException {
 
                 String description = null;
 
@@ -387,28 +809,731 @@ final class Handler {
             }
 
             /**
-             * This method is specific YAML implementation to retrieve the numbers of properties read
-             *
-             * @param graph The intermediate representation
+             * The {@link Events} class pulls the YAML events from the file only when they are requested,
+             * so the whole stream is never kept in memory
              */
-            public static int __evaluate_properties(ArrayDeque<Event> graph) throws ParsingProcessException {
-                // Evaluating properties number
-                long read = graph.stream().filter(event -> (
-                        event.getEventId() == Event.ID.MappingStart) ||
-                        (event.getEventId() == Event.ID.MappingEnd)).
-                        count();
-
-                // If some tags are missed from the yaml parsed
-                if (read % 2 != 0) {
-                    throw new ParsingProcessException("Invalid properties encoding");
+            static final class Events implements Closeable {
+
+                private final Reader reader;
+                private final Iterator<Event> iterator;
+
+                private Event next;
+
+                /**
+                 * The {@link Events} constructor
+                 *
+                 * @param reader The source, it is closed along with this object
+                 */
+                Events(Reader reader) {
+                    this.reader = reader;
+                    this.iterator = Factory.__yaml().parse(reader).iterator();
+                    this.next = null;
+                }
+
+                /**
+                 * Retrieves, but does not remove, the next event
+                 *
+                 * @return The next event or null if the stream has ended
+                 * @throws ParsingProcessException If the event could not be parsed
+                 */
+                public Event peek() throws ParsingProcessException {
+
+                    if (next == null) {
+                        try {
+                            if (iterator.hasNext())
+                                next = iterator.next();
+                        } catch (YAMLException e) {
+                            throw new ParsingProcessException(e.getMessage());
+                        }
+                    }
+
+                    return next;
+                }
+
+                /**
+                 * Retrieves and removes the next event
+                 *
+                 * @return The next event or null if the stream has ended
+                 * @throws ParsingProcessException If the event could not be parsed
+                 */
+                public Event poll() throws ParsingProcessException {
+
+                    Event e = peek();
+
+                    this.next = null;
+
+                    return e;
+                }
+
+                /**
+                 * Checks if the stream has ended
+                 *
+                 * @return True or false
+                 * @throws ParsingProcessException If the event could not be parsed
+                 */
+                public boolean isEmpty() throws ParsingProcessException {
+                    return peek() == null;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    reader.close();
+                }
+            }
+
+        }
+
+    }
+
+    /**
+     * This class reads the configuration file through a {@link FileChannel}, decoding it explicitly as UTF-8.
+     * <p>
+     * Large files are mapped in memory, the smaller ones are read chunk by chunk into direct buffers
+     * which are pooled across the readings.
+     */
+    static final class Input implements Closeable {
+
+        private static final int BUFFER_SIZE = 8192;
+        private static final int POOL_SIZE = 16;
+
+        /**
+         * The size from which the files are mapped, below it setting up the mapping costs more than copying
+         */
+        private static final long MAPPING_THRESHOLD = 1 << 20;
+
+        /**
+         * Mapped files cannot be replaced on Windows until the garbage collector unmaps them
+         */
+        private static final boolean MAPPING = !System.getProperty("os.name", "").startsWith("Windows");
+
+        private static final BlockingQueue<ByteBuffer> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final boolean mapped;
+
+        private Input(FileChannel channel, ByteBuffer buffer, boolean mapped) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.mapped = mapped;
+        }
+
+        /**
+         * Opens the file of the given configuration instance
+         *
+         * @param instance The configuration instance
+         * @return The {@link Input} instance
+         * @throws FileNotFoundException If the file does not exist
+         * @throws IOException           If the file cannot be opened
+         */
+        public static Input open(Configuration instance) throws IOException {
+
+            FileChannel channel;
+
+            try {
+                channel = FileChannel.open(instance.getFile().toPath(), READ);
+            } catch (NoSuchFileException e) {
+                // As the previous streams did
+                throw new FileNotFoundException(instance.getFile().getPath() + " (No such file or directory)");
+            }
+
+            try {
+
+                long size = channel.size();
+
+                if (MAPPING && size >= MAPPING_THRESHOLD && size <= Integer.MAX_VALUE)
+                    return new Input(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, size), true);
+
+                ByteBuffer buffer = POOL.poll();
+
+                if (buffer == null)
+                    buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+                // Empty until the first chunk is read
+                ((Buffer) buffer).clear().flip();
+
+                return new Input(channel, buffer, false);
+
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+
+        }
+
+        /**
+         * Gets the raw bytes of the file, closing the stream closes the file
+         *
+         * @return The {@link InputStream} instance
+         */
+        public InputStream stream() {
+            return new Bytes();
+        }
+
+        /**
+         * Gets the characters of the file decoded as UTF-8, closing the reader closes the file
+         *
+         * @return The {@link Reader} instance
+         */
+        public Reader reader() {
+            return new Chars();
+        }
+
+        /**
+         * Releases the file and the pooled buffer
+         *
+         * @throws IOException If the file cannot be closed
+         */
+        @Override
+        public void close() throws IOException {
+
+            if (!channel.isOpen())
+                return;
+
+            channel.close();
+
+            if (!mapped)
+                POOL.offer(buffer);
+        }
+
+        /**
+         * Makes sure some bytes are available, reading the next chunk if needed
+         *
+         * @return False if the whole file was consumed
+         * @throws IOException If the file cannot be read
+         */
+        private boolean __fill() throws IOException {
+
+            if (buffer.hasRemaining())
+                return true;
+
+            return __next();
+        }
+
+        /**
+         * Reads the next chunk, keeping the bytes not consumed yet
+         *
+         * @return False if the whole file was consumed
+         * @throws IOException If the file cannot be read
+         */
+        private boolean __next() throws IOException {
+
+            // Mapped files are already there as a whole
+            if (mapped)
+                return false;
+
+            buffer.compact();
+
+            int n;
+
+            try {
+                n = channel.read(buffer);
+            } finally {
+                ((Buffer) buffer).flip();
+            }
+
+            return n > 0;
+        }
+
+        /**
+         * The raw bytes of the file
+         */
+        private final class Bytes extends InputStream {
+
+            @Override
+            public int read() throws IOException {
+                return __fill() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+
+                if (len == 0)
+                    return 0;
+
+                if (!__fill())
+                    return -1;
+
+                int n = Math.min(len, buffer.remaining());
+                buffer.get(b, off, n);
+
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                Input.this.close();
+            }
+        }
+
+        /**
+         * The characters of the file, decoded chunk by chunk
+         */
+        private final class Chars extends Reader {
+
+            private final CharsetDecoder decoder;
+            private final CharBuffer chars;
+            private boolean eof;
+
+            private Chars() {
+
+                // Malformed input is replaced, as the previous readers did
+                this.decoder = StandardCharsets.UTF_8.newDecoder().
+                        onMalformedInput(CodingErrorAction.REPLACE).
+                        onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+                this.chars = CharBuffer.allocate(BUFFER_SIZE);
+
+                // Empty until the first chunk is decoded
+                ((Buffer) this.chars).flip();
+            }
+
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+
+                if (len == 0)
+                    return 0;
+
+                if (!chars.hasRemaining() && !__decode())
+                    return -1;
+
+                int n = Math.min(len, chars.remaining());
+                chars.get(cbuf, off, n);
+
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                Input.this.close();
+            }
+
+            private boolean __decode() throws IOException {
+
+                ((Buffer) chars).clear();
+
+                while (chars.position() == 0) {
+
+                    if (eof) {
+                        decoder.flush(chars);
+                        break;
+                    }
+
+                    CoderResult r = decoder.decode(buffer, chars, false);
+
+                    if (chars.position() > 0 || r.isOverflow())
+                        break;
+
+                    // Any incomplete sequence is kept for the next chunk
+                    if (!__next()) {
+                        eof = true;
+                        decoder.decode(buffer, chars, true);
+                    }
+
+                }
+
+                ((Buffer) chars).flip();
+
+                return chars.hasRemaining();
+            }
+        }
+    }
+
+    /**
+     * This class writes the configuration file atomically: the content goes into a temporary file
+     * inside the same directory, which replaces the configuration file only once it is complete.
+     * <p>
+     * If requested, the content is hashed while it is written and the configuration file is not replaced
+     * when it already holds the same content.
+     */
+    static final class Output implements Closeable {
+
+        private static final String DIGEST = "SHA-256";
+
+        /**
+         * The digest of the file last written by comparison by each configuration, together with the attributes it had right after.
+         * It is dropped together with the configuration instance.
+         */
+        private static final Map<Configuration, Stamp> STAMPS = Collections.synchronizedMap(new WeakHashMap<>());
+
+        private final Configuration instance;
+        private final Path target;
+        private final Path temp;
+        private final FileChannel channel;
+        private final boolean durable;
+        private final MessageDigest digest;
+        private boolean committed;
+
+        private Output(Configuration instance, Path target, Path temp, FileChannel channel, boolean durable, MessageDigest digest) {
+            this.instance = instance;
+            this.target = target;
+            this.temp = temp;
+            this.channel = channel;
+            this.durable = durable;
+            this.digest = digest;
+        }
+
+        /**
+         * Creates the temporary file of the given configuration instance
+         *
+         * @param instance The configuration instance
+         * @param compare  True if the configuration file should be kept when the content is the same
+         * @return The {@link Output} instance
+         * @throws IOException If the temporary file cannot be created
+         */
+        public static Output open(Configuration instance, boolean compare) throws IOException {
+
+            Path target = __resolve(instance.getFile().toPath().toAbsolutePath());
+
+            // Hidden and unique, the rename never crosses the file system
+            Path temp = target.resolveSibling("." + target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+
+            return new Output(instance, target, temp, FileChannel.open(temp, CREATE_NEW, WRITE), instance.isDurable(), compare ? __digest() : null);
+        }
+
+        /**
+         * Gets the stream writing on the temporary file, closing it does not close the file
+         *
+         * @return The {@link OutputStream} instance
+         */
+        public OutputStream stream() {
+
+            OutputStream os = new FilterOutputStream(Channels.newOutputStream(channel)) {
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    // Skipping the byte by byte copy
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+
+            // Hashing as it streams by
+            return digest == null ? os : new DigestOutputStream(os, digest);
+        }
+
+        /**
+         * Gets the buffered UTF-8 writer writing on the temporary file, closing it does not close the file
+         *
+         * @return The {@link Writer} instance
+         */
+        public Writer writer() {
+            return new BufferedWriter(new OutputStreamWriter(stream(), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Replaces the configuration file with the temporary one, everything written must be flushed before
+         *
+         * @return True if the file was replaced, false if it was kept because it already had the same content
+         * @throws IOException If the file cannot be replaced
+         */
+        public boolean commit() throws IOException {
+
+            byte[] hash = null;
+
+            if (digest != null) {
+
+                hash = digest.digest();
+
+                if (__unchanged(hash, channel.size()))
+                    return false;
+
+            }
+
+            // The new file must look like the one it replaces
+            __inherit();
+
+            if (durable)
+                channel.force(true);
+
+            channel.close();
+
+            try {
+                Files.move(temp, target, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                // Readers could see the file missing for a moment, never partial
+                Files.move(temp, target, REPLACE_EXISTING);
+            }
+
+            committed = true;
+
+            if (durable)
+                __force_directory(target.getParent());
+
+            // Any other write makes the previous digest useless
+            if (hash == null)
+                STAMPS.remove(instance);
+            else
+                STAMPS.put(instance, new Stamp(hash, Files.readAttributes(target, BasicFileAttributes.class)));
+
+            return true;
+        }
+
+        /**
+         * Closes the temporary file, deleting it if it was not committed
+         *
+         * @throws IOException If the temporary file cannot be deleted
+         */
+        @Override
+        public void close() throws IOException {
+
+            channel.close();
+
+            if (!committed)
+                Files.deleteIfExists(temp);
+        }
+
+        /**
+         * Copies the permissions, the owner and the group of the configuration file on the temporary one
+         *
+         * @throws IOException If the permissions cannot be copied
+         */
+        private void __inherit() throws IOException {
+
+            PosixFileAttributeView source = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+
+            // Nothing to copy outside POSIX file systems
+            if (source == null)
+                return;
+
+            PosixFileAttributes attributes;
+
+            try {
+                attributes = source.readAttributes();
+            } catch (NoSuchFileException e) {
+                // First write, the default permissions are used
+                return;
+            }
+
+            PosixFileAttributeView view = Files.getFileAttributeView(temp, PosixFileAttributeView.class);
+            PosixFileAttributes current = view.readAttributes();
+
+            view.setPermissions(attributes.permissions());
+
+            try {
+
+                if (!current.owner().equals(attributes.owner()))
+                    view.setOwner(attributes.owner());
+
+                if (!current.group().equals(attributes.group()))
+                    view.setGroup(attributes.group());
+
+            } catch (FileSystemException ignored) {
+                // Only privileged users can give files away
+            }
+
+        }
+
+        /**
+         * Follows the symbolic links, so the rename replaces their destination instead of the links themselves
+         *
+         * @param path The configuration file
+         * @return The real path, or the given one if the file does not exist yet
+         * @throws IOException If the path cannot be resolved
+         */
+        private static Path __resolve(Path path) throws IOException {
+
+            try {
+                return path.toRealPath();
+            } catch (NoSuchFileException e) {
+                return path;
+            }
+
+        }
+
+        /**
+         * Check if the configuration file already holds the content with the given digest
+         *
+         * @param hash The digest of the new content
+         * @param size The size of the new content
+         * @return True or false
+         * @throws IOException If the configuration file cannot be read
+         */
+        private boolean __unchanged(byte[] hash, long size) throws IOException {
+
+            BasicFileAttributes attributes;
+
+            try {
+                attributes = Files.readAttributes(target, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+
+            // Different length, different content
+            if (attributes.size() != size)
+                return false;
+
+            Stamp stamp = STAMPS.get(instance);
+
+            // Not touched since it was written by comparison, the digest is still valid
+            if (stamp != null && stamp.matches(attributes))
+                return MessageDigest.isEqual(stamp.hash, hash);
+
+            // Written by anyone else, hashing the current content
+            MessageDigest current = __digest();
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+            try (FileChannel fc = FileChannel.open(target, READ)) {
+
+                while (fc.read(buffer) != -1) {
+                    ((Buffer) buffer).flip();
+                    current.update(buffer);
+                    ((Buffer) buffer).clear();
                 }
 
-                return (int) (read / 2);
+            }
+
+            return MessageDigest.isEqual(current.digest(), hash);
+        }
+
+        private static MessageDigest __digest() {
+
+            try {
+                return MessageDigest.getInstance(DIGEST);
+            } catch (NoSuchAlgorithmException e) {
+                // Every platform must provide it
+                throw new IllegalStateException(e);
+            }
+
+        }
+
+        private static void __force_directory(Path directory) {
+
+            try (FileChannel dir = FileChannel.open(directory, READ)) {
+                // The rename itself is stored inside the directory
+                dir.force(true);
+            } catch (IOException ignored) {
+                // Directories cannot be opened on every platform
+            }
+
+        }
 
+        /**
+         * The digest of a written file and the attributes telling if it was touched afterwards
+         */
+        private static final class Stamp {
+
+            private final byte[] hash;
+            private final long size;
+            private final FileTime modified;
+            private final Object key;
+
+            private Stamp(byte[] hash, BasicFileAttributes attributes) {
+                this.hash = hash;
+                this.size = attributes.size();
+                this.modified = attributes.lastModifiedTime();
+                this.key = attributes.fileKey();
             }
 
+            private boolean matches(BasicFileAttributes attributes) {
+                return size == attributes.size() &&
+                        modified.equals(attributes.lastModifiedTime()) &&
+                        Objects.equals(key, attributes.fileKey());
+            }
         }
+    }
+
+    /**
+     * This class caches the factories and the non thread-safe parsers used by the handlers,
+     * so they are looked up only once instead of on each read or write
+     */
+    static final class Factory {
+
+        public static final JsonBuilderFactory JSON_BUILDER = Json.createBuilderFactory(null);
+        public static final JsonReaderFactory JSON_READER = Json.createReaderFactory(null);
+        public static final JsonParserFactory JSON_PARSER = Json.createParserFactory(null);
+        public static final JsonGeneratorFactory JSON_GENERATOR = Json.createGeneratorFactory(
+                Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+
+        public static final XMLInputFactory XML_INPUT = __xml_input();
+        public static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newInstance();
+
+        private static final DocumentBuilderFactory DOCUMENT_BUILDER = DocumentBuilderFactory.newInstance();
+        private static final TransformerFactory TRANSFORMER = TransformerFactory.newInstance();
+
+        private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDERS = new ThreadLocal<>();
+        private static final ThreadLocal<Transformer> TRANSFORMERS = new ThreadLocal<>();
+        private static final ThreadLocal<Yaml> YAMLS = ThreadLocal.withInitial(() -> {
+            // Setting output
+            DumperOptions options = new DumperOptions();
+            options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
 
+            return new Yaml(options);
+        });
+
+        private Factory() {
+        }
+
+        /**
+         * Gets the document builder owned by the current thread, ready to be used again
+         *
+         * @return The {@link DocumentBuilder} instance
+         * @throws ParserConfigurationException If the builder could not be created
+         */
+        public static DocumentBuilder __document_builder() throws ParserConfigurationException {
+
+            DocumentBuilder db = DOCUMENT_BUILDERS.get();
+
+            if (db == null) {
+                // The factory itself is not thread-safe
+                synchronized (DOCUMENT_BUILDER) {
+                    db = DOCUMENT_BUILDER.newDocumentBuilder();
+                }
+                DOCUMENT_BUILDERS.set(db);
+            } else {
+                // Cleaning anything left from the last parsing
+                db.reset();
+            }
+
+            return db;
+        }
+
+        /**
+         * Gets the transformer owned by the current thread, its output properties are set only once
+         *
+         * @return The {@link Transformer} instance
+         * @throws TransformerConfigurationException If the transformer could not be created
+         */
+        public static Transformer __transformer() throws TransformerConfigurationException {
+
+            Transformer transformer = TRANSFORMERS.get();
+
+            if (transformer == null) {
+                // The factory itself is not thread-safe
+                synchronized (TRANSFORMER) {
+                    transformer = TRANSFORMER.newTransformer();
+                }
+                // Applying output property
+                transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
+                transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+
+                TRANSFORMERS.set(transformer);
+            }
+
+            return transformer;
+        }
+
+        /**
+         * Gets the YAML parser and dumper owned by the current thread
+         *
+         * @return The {@link Yaml} instance
+         */
+        public static Yaml __yaml() {
+            return YAMLS.get();
+        }
+
+        private static XMLInputFactory __xml_input() {
+
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            // Nothing outside the file is needed
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+
+            return factory;
+        }
     }
 
 }
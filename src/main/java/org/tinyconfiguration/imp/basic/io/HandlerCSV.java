@@ -11,14 +11,11 @@ import org.tinyconfiguration.imp.basic.ex.io.ParsingProcessException;
 import org.tinyconfiguration.imp.basic.ex.property.*;
 
 import java.io.*;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static org.tinyconfiguration.abc.utils.SpecialCharacters.Type.*;
 import static org.tinyconfiguration.abc.utils.SpecialCharacters.substitute;
@@ -39,9 +36,6 @@ public final class HandlerCSV {
 
     public final static class ImplWriterCSV implements AbstractWriter<Configuration, Property, StringBuilder> {
 
-        private Configuration instance;
-
-
         /**
          * Write the configuration file
          *
@@ -57,10 +51,11 @@ public final class HandlerCSV {
          * Write the configuration file asynchronously
          *
          * @param instance The configuration instance to write
+         * @param executor The executor running the writing task
          * @return Future object representing the writing task
          */
         @Override
-        public Future<Void> writeAsync(Configuration instance) {
+        public CompletableFuture<Void> writeAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     write(instance);
@@ -68,27 +63,36 @@ public final class HandlerCSV {
                     throw new CompletionException(e);
                 }
                 return null;
-            });
+            }, executor);
+        }
+
+        /**
+         * Write the configuration file only if its content changed
+         *
+         * @param instance The configuration instance to write
+         * @return True if the file was written, false if it already had the same content
+         * @throws IOException If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public boolean writeIfChanged(Configuration instance) throws IOException {
+            return __to_file(instance, true);
         }
 
         /**
          * This method allow to insert a property object inside an intermediate representation
          *
+         * @param root     The line, already holding the configuration columns
          * @param property The property instance
-         * @return The new representation
          */
         @Override
-        public String encode(Property property) {
-
-            StringBuilder sb = new StringBuilder();
+        public void encode(StringBuilder root, Property property) {
 
             if (property.getValue().isArray()) {
-                __encode_array(sb, property);
+                __encode_array(root, property);
             } else {
-                __encode_obj(sb, property);
+                __encode_obj(root, property);
             }
 
-            return sb.toString();
         }
 
         /**
@@ -100,19 +104,22 @@ public final class HandlerCSV {
         @Override
         public List<String> toObject(Configuration instance) {
 
-            this.instance = instance;
             List<String> e = new ArrayList<>();
 
             // Inserting header
             e.add("CFG_NAME,CFG_VERSION,KEY,VALUE,DESCRIPTION");
 
+            // These columns are the same on each line
+            String columns = "\"" + substitute(STR_ENCODE, instance.getName()) + "\"" + "," +
+                    "\"" + substitute(STR_ENCODE, instance.getVersion()) + "\"" + ",";
+
             // Encoding properties
-            for (Property property : instance.getProperties()) {
-                e.add(encode(property));
+            for (Property property : instance.getPropertiesView()) {
+                StringBuilder sb = new StringBuilder(columns);
+                encode(sb, property);
+                e.add(sb.toString());
             }
 
-            this.instance = null;
-
             return e;
         }
 
@@ -124,19 +131,34 @@ public final class HandlerCSV {
          */
         @Override
         public void toFile(Configuration instance) throws IOException {
+            __to_file(instance, false);
+        }
+
+        /**
+         * This method allow to generate a file, replacing the previous one only if requested and its content changed
+         *
+         * @param instance The configuration instance
+         * @param compare  True if the previous file should be kept when the content is the same
+         * @return True if the file was replaced, otherwise false
+         * @throws IOException If something goes wrong during the process
+         */
+        private boolean __to_file(Configuration instance, boolean compare) throws IOException {
 
             List<String> lines = WRITER.toObject(instance);
 
+            try (Handler.Output out = Handler.Output.open(instance, compare)) {
 
-            try (BufferedWriter bw = new BufferedWriter(new FileWriter(instance.getFile()))) {
+                try (Writer bw = out.writer()) {
 
-                for (String line : lines) {
-                    bw.write(line);
-                    bw.newLine();
-                }
+                    for (String line : lines) {
+                        bw.write(line);
+                        bw.write(System.lineSeparator());
+                    }
 
-                bw.flush();
+                }
 
+                // Replacing the file as a whole
+                return out.commit();
             }
 
         }
@@ -150,9 +172,7 @@ public final class HandlerCSV {
         @Override
         public void __encode_obj(StringBuilder root, Property property) {
 
-            root.append("\"").append(substitute(STR_ENCODE, instance.getName())).append("\"").append(",").
-                    append("\"").append(substitute(STR_ENCODE, instance.getVersion())).append("\"").append(",").
-                    append("\"").append(substitute(STR_ENCODE, property.getKey())).append("\"").append(",").
+            root.append("\"").append(substitute(STR_ENCODE, property.getKey())).append("\"").append(",").
                     append("\"").append(substitute(STR_ENCODE, property.getValue().asString())).append("\"").append(",").
                     append("\"").append(substitute(STR_ENCODE, property.getDescription())).append("\"");
 
@@ -173,9 +193,7 @@ public final class HandlerCSV {
                 values.add(substitute(ARR_ENCODE, tmp));
             }
 
-            root.append("\"").append(substitute(STR_ENCODE, instance.getName())).append("\"").append(",").
-                    append("\"").append(substitute(STR_ENCODE, instance.getVersion())).append("\"").append(",").
-                    append("\"").append(substitute(STR_ENCODE, property.getKey())).append("\"").append(",").
+            root.append("\"").append(substitute(STR_ENCODE, property.getKey())).append("\"").append(",").
                     append("\"").append(values.toString()).append("\"").append(",").
                     append("\"").append(substitute(STR_ENCODE, property.getDescription())).append("\"");
 
@@ -192,16 +210,9 @@ public final class HandlerCSV {
         private static final int IDX_VALUE = 3;
         private static final int IDX_DESCRIPTION = 4;
 
-        private static final Pattern MATCH_FIELD = Pattern.compile("((?:\"(?:\"{2}|,|\\n|[^\"]*)+\")|(?:[^,\"\\n]+))");
-        private static final Pattern MATCH_COMMA = Pattern.compile(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
-        private static final Pattern MATCH_COMMA_ARRAY = Pattern.compile("(?<!\\\\),");
-        private static final Pattern REMOVE_QUOTES = Pattern.compile("^\"|\"$");
+        private static final Pattern MATCH_COMMA_ARRAY = Pattern.compile("(?<!\\\\), ?");
         private static final Pattern REMOVE_PARENTHESIS = Pattern.compile("^\\[|]$");
 
-        private List<String> properties;
-        private Configuration instance;
-
-
         /**
          * Reads the configuration file
          *
@@ -217,10 +228,11 @@ public final class HandlerCSV {
          * Reads the configuration file asynchronously
          *
          * @param instance The configuration instance to read
+         * @param executor The executor running the reading task
          * @return Future object representing the reading task
          */
         @Override
-        public Future<Void> readAsync(Configuration instance) {
+        public CompletableFuture<Void> readAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     read(instance);
@@ -229,137 +241,190 @@ public final class HandlerCSV {
                     throw new CompletionException(e);
                 }
                 return null;
-            });
+            }, executor);
         }
 
         /**
          * This method allow to translate a property object inside an intermediate representation
          *
          * @param property The property instance
+         * @param value    The value field, already split from its line while indexing, or null if it was not found
+         */
+        @Override
+        public void decode(Property property, String value) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, MissingConfigurationPropertyException {
+
+            // If the property was found, we proceed
+            if (value != null) {
+
+                if (property.getValue().isArray()) {
+                    __decode_array(property, value);
+                } else {
+                    __decode_obj(property, value);
+                }
+
+            } else if (!property.isOptional()) {
+                // No property with the given key was found inside the file
+                throw new MissingConfigurationPropertyException(property);
+            }
+
+        }
+
+        /**
+         * This method generate the final representation of the configuration
+         *
+         * @param instance The configuration instance
          */
         @Override
-        public void decode(Property property) throws ParsingProcessException, InvalidConfigurationNameException, InvalidConfigurationVersionException, MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, DuplicatedConfigurationPropertyException, MissingConfigurationPropertyException, MissingConfigurationIdentifiersException {
+        public void toObject(Configuration instance) throws UnknownConfigurationPropertyException, IOException, ParsingProcessException, DuplicatedConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationNameException, InvalidConfigurationVersionException, InvalidConfigurationPropertyException, MissingConfigurationPropertyException, MissingConfigurationIdentifiersException {
 
-            String property0 = null;
-            // This flag stop the iteration
-            boolean stop = false;
+            Map<String, String> properties;
+
+            // Lines are split as they are read, without collecting them
+            try (BufferedReader br = fromFile(instance)) {
+                properties = index(instance, br);
+            }
+
+            for (Property tmp : instance.getPropertiesView()) {
+                decode(tmp, properties.get(tmp.getKey()));
+            }
+
+        }
+
+        /**
+         * This method split every line exactly once, verifying its header columns and mapping its key to the raw value
+         *
+         * @param instance The configuration instance
+         * @param lines    The configuration lines, header excluded
+         * @return The value of each property mapped by key
+         */
+        private Map<String, String> index(Configuration instance, BufferedReader lines) throws IOException, ParsingProcessException, MissingConfigurationIdentifiersException, InvalidConfigurationNameException, InvalidConfigurationVersionException, UnknownConfigurationPropertyException, DuplicatedConfigurationPropertyException {
+
+            int expected = instance.size();
+
+            Map<String, String> index = new HashMap<>(expected * 4 / 3 + 1);
+
+            // Both are reused for each line
+            String[] fields = new String[FIELDS];
+            StringBuilder field = new StringBuilder();
+
+            int read = 0;
+            String line;
+
+            while ((line = lines.readLine()) != null) {
+
+                // More lines than properties
+                if (++read > expected)
+                    throw new UnknownConfigurationPropertyException();
 
-            // Now, we look inside "properties" on each node if the current "Property" object exists
-            for (String s : properties) {
                 // Reading field value
-                String[] field = MATCH_COMMA.split(s);
+                int length = tokenize(line, fields, field);
+
                 // Verifying field number
-                if (field.length != FIELDS) {
-                    throw new ParsingProcessException("The fields are required to be " + FIELDS + " instead they are " + field.length);
-                }
-                // Decode
-                for (int i = 0; i < field.length; i++) {
-                    field[i] = REMOVE_QUOTES.matcher(field[i]).replaceAll("");
+                if (length != FIELDS) {
+                    throw new ParsingProcessException("The fields are required to be " + FIELDS + " instead they are " + length);
                 }
 
                 // Verifying instance name
-                if (field[IDX_CFG_NAME].trim().isEmpty()) {
+                if (fields[IDX_CFG_NAME].trim().isEmpty()) {
                     throw new MissingConfigurationIdentifiersException(instance.getName());
                 }
 
-                if (!field[IDX_CFG_NAME].equals(instance.getName())) {
-                    throw new InvalidConfigurationNameException(instance.getName(), field[IDX_CFG_NAME]);
+                if (!fields[IDX_CFG_NAME].equals(instance.getName())) {
+                    throw new InvalidConfigurationNameException(instance.getName(), fields[IDX_CFG_NAME]);
                 }
 
                 // Verifying instance version
-                if (field[IDX_CFG_VERSION].trim().isEmpty()) {
+                if (fields[IDX_CFG_VERSION].trim().isEmpty()) {
                     throw new MissingConfigurationIdentifiersException(instance.getVersion());
                 }
 
-                if (!field[IDX_CFG_VERSION].equals(instance.getVersion())) {
-                    throw new InvalidConfigurationVersionException(instance.getVersion(), field[IDX_CFG_VERSION]);
+                if (!fields[IDX_CFG_VERSION].equals(instance.getVersion())) {
+                    throw new InvalidConfigurationVersionException(instance.getVersion(), fields[IDX_CFG_VERSION]);
                 }
 
-                if (field[IDX_KEY].equals(property.getKey())) {
+                String key = fields[IDX_KEY];
 
-                    // This means there is another property with the same key definition
-                    if (stop)
-                        throw new DuplicatedConfigurationPropertyException(property);
-                    // Flag to stop
-                    stop = true;
-                    // Assign value
-                    property0 = s;
+                // This key does not match any property inside the configuration
+                if (key.trim().isEmpty() || !instance.contains(key))
+                    throw new UnknownConfigurationPropertyException();
 
-                }
+                // This means there is another property with the same key definition
+                if (index.put(key, fields[IDX_VALUE]) != null)
+                    throw new DuplicatedConfigurationPropertyException(instance.get(key));
 
             }
 
-            // If the property was found, we proceed
-            if (property0 != null) {
-
-                // Reading field value
-                String[] field = MATCH_COMMA.split(property0);
-
-                // Removing field comma
-                for (int i = 0; i < field.length; i++) {
-                    field[i] = REMOVE_QUOTES.matcher(field[i]).replaceAll("");
-                }
-
-                if (property.getValue().isArray()) {
-                    __decode_array(property, field[IDX_VALUE]);
-                } else {
-                    __decode_obj(property, field[IDX_VALUE]);
-                }
-
-            }
-
-            // In the end, if it is still null, no property with the given key was found inside the file
-            if (property0 == null && !property.isOptional()) {
-                throw new MissingConfigurationPropertyException(property);
-            }
-
+            return index;
         }
 
         /**
-         * This method generate the final representation of the configuration
+         * This method split a line into its fields, removing the enclosing quotes.
+         * <p>
+         * Commas inside quotes do not end a field and any escaped character is copied untouched,
+         * leaving its decoding to the property itself.
          *
-         * @param instance The configuration instance
+         * @param line   The line to split
+         * @param fields The fields found
+         * @param field  The buffer used to build each field
+         * @return The number of fields found, if greater than {@link #FIELDS} the remaining ones are not stored
          */
-        @Override
-        public void toObject(Configuration instance) throws UnknownConfigurationPropertyException, IOException, ParsingProcessException, DuplicatedConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationNameException, InvalidConfigurationVersionException, InvalidConfigurationPropertyException, MissingConfigurationPropertyException, MissingConfigurationIdentifiersException {
+        private static int tokenize(String line, String[] fields, StringBuilder field) {
+
+            int length = 0;
+            boolean quoted = false;
 
-            this.instance = instance;
-            this.properties = fromFile(instance);
+            field.setLength(0);
 
-            int read = this.properties.size();
-            int expected = instance.getProperties().size();
+            for (int i = 0; i < line.length(); i++) {
 
-            if (read > expected)
-                throw new UnknownConfigurationPropertyException();
+                char c = line.charAt(i);
+
+                if (c == '\\' && i + 1 < line.length()) {
+                    // Escaped character
+                    field.append(c).append(line.charAt(++i));
+                } else if (c == '"') {
+                    // Quotes are not part of the value
+                    quoted = !quoted;
+                } else if (c == ',' && !quoted) {
+                    // End of field
+                    if (length < FIELDS)
+                        fields[length] = field.toString();
+                    ++length;
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
 
-            for (Property tmp : instance.getProperties()) {
-                decode(tmp);
             }
 
-            this.properties = null;
-            this.instance = null;
+            // Last field
+            if (length < FIELDS)
+                fields[length] = field.toString();
+
+            return ++length;
         }
 
         /**
-         * This method generate an intermediate object representation of the configuration from the file
+         * This method opens the configuration file, positioned after its header
          *
          * @param instance The configuration instance
+         * @return The {@link BufferedReader} reading the property lines
          * @throws IOException If something goes wrong during the process
          */
         @Override
-        public List<String> fromFile(Configuration instance) throws IOException {
+        public BufferedReader fromFile(Configuration instance) throws IOException {
 
-            List<String> lines;
+            BufferedReader br = new BufferedReader(Handler.Input.open(instance).reader());
 
-            try (BufferedReader br = new BufferedReader(new FileReader(instance.getFile()))) {
-                // Read all lines
-                lines = br.lines().collect(Collectors.toList());
+            try {
+                // Skipping header
+                br.readLine();
+            } catch (IOException e) {
+                br.close();
+                throw e;
             }
 
-            // Remove header
-            lines.remove(0);
-
-            return lines;
+            return br;
         }
 
         /**
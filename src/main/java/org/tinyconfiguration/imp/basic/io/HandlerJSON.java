@@ -13,18 +13,21 @@ import org.tinyconfiguration.imp.basic.ex.property.*;
 
 import javax.json.*;
 import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParsingException;
 import java.io.*;
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
 
 import static javax.json.JsonValue.ValueType.ARRAY;
+import static javax.json.JsonValue.ValueType.OBJECT;
 
 /**
  * The {@link HandlerJSON} class contains the implementations of I/O operations as JSON format which can be executed on any {@link Configuration} instance
@@ -36,6 +39,8 @@ public final class HandlerJSON {
 
     public static final ImplWriterJSON WRITER = new ImplWriterJSON();
     public static final ImplReaderJSON READER = new ImplReaderJSON();
+    public static final ImplStreamWriterJSON STREAM_WRITER = new ImplStreamWriterJSON();
+    static final ImplStreamReaderJSON STREAM_READER = new ImplStreamReaderJSON();
 
     private HandlerJSON() {
     }
@@ -55,18 +60,19 @@ public final class HandlerJSON {
          * @throws IOException If an I/O exception of some sort has occurred.
          */
         @Override
-        public synchronized void write(Configuration instance) throws IOException {
-            WRITER.toFile(instance);
+        public void write(Configuration instance) throws IOException {
+            toFile(instance);
         }
 
         /**
          * Write the configuration file asynchronously
          *
          * @param instance The configuration instance to write
+         * @param executor The executor running the writing task
          * @return Future object representing the writing task
          */
         @Override
-        public Future<Void> writeAsync(Configuration instance) {
+        public CompletableFuture<Void> writeAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     write(instance);
@@ -74,7 +80,19 @@ public final class HandlerJSON {
                     throw new CompletionException(e);
                 }
                 return null;
-            });
+            }, executor);
+        }
+
+        /**
+         * Write the configuration file only if its content changed
+         *
+         * @param instance The configuration instance to write
+         * @return True if the file was written, false if it already had the same content
+         * @throws IOException If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public boolean writeIfChanged(Configuration instance) throws IOException {
+            return STREAM_WRITER.writeIfChanged(instance);
         }
 
         /**
@@ -86,14 +104,19 @@ public final class HandlerJSON {
         @Override
         public JsonObject toObject(Configuration instance) {
 
-            JsonObjectBuilder root = Json.createObjectBuilder();
-            JsonArrayBuilder nodes = Json.createArrayBuilder();
+            JsonObjectBuilder root = Handler.Factory.JSON_BUILDER.createObjectBuilder();
+            JsonArrayBuilder nodes = Handler.Factory.JSON_BUILDER.createArrayBuilder();
 
             root.add("name", instance.getName());
             root.add("version", instance.getVersion());
 
-            for (Property property : instance.getProperties()) {
-                nodes.add(encode(property));
+            for (Property property : instance.getPropertiesView()) {
+                // Creating object
+                JsonObjectBuilder node = Handler.Factory.JSON_BUILDER.createObjectBuilder();
+                // Encoding
+                encode(node, property);
+                // Inserting
+                nodes.add(node);
             }
 
             root.add("properties", nodes);
@@ -104,67 +127,25 @@ public final class HandlerJSON {
         /**
          * This method allow to generate a file given any object representation of the configuration instance
          *
+         * <p>The generator writes the same document without building the object tree or the whole document text.</p>
+         *
          * @param instance The configuration instance
          * @throws IOException If an I/O exception of some sort has occurred.
          */
         @Override
         public void toFile(Configuration instance) throws IOException {
-
-            // Defining exporting rules
-            Map<String, Object> options = new HashMap<>(1);
-            options.put(JsonGenerator.PRETTY_PRINTING, true);
-
-            // Creating factory
-            JsonWriterFactory writerFactory = Json.createWriterFactory(options);
-
-            // Obtaining object representation (#001)
-            JsonObject obj = this.toObject(instance);
-
-            // Creating stream-like string
-            String data;
-
-            try (StringWriter sw = new StringWriter();
-                 javax.json.JsonWriter writer = writerFactory.createWriter(sw)) {
-                // Writing on stream
-                writer.writeObject(obj);
-                // Obtaining data
-                data = sw.toString();
-            }
-
-            //TODO: Fix this
-
-            /* Removing annoying new-line char
-            /* If there is '\n\r' or '\n' it removes it,
-            /* otherwise leave as it is
-            /* This bug comes from javax.json implementation (i think(?))
-            /* Stuff, i found on internet related: "https://github.com/eclipse-ee4j/yasson/issues/289"
-            /* Even if it talks about 'yasson', i got the same issue on (#001)
-            /* I have tried different javax.json implementation, but it keeps staying there...*/
-
-            data = data.
-                    substring(data.indexOf("\n\r") + 1).
-                    substring(data.indexOf('\n') + 1);
-
-            try (BufferedWriter bw = new BufferedWriter(new FileWriter(instance.getFile()))) {
-                // Writing on disk
-                bw.write(data);
-                // Say good-bye!
-                bw.flush();
-            }
+            STREAM_WRITER.toFile(instance);
         }
 
         /**
          * This method allow to insert a property object inside an intermediate representation
          *
+         * @param root     The property object
          * @param property The property instance
-         * @return The new representation
          * @throws IllegalStateException If the data-type cannot be encoded as JSON-like value
          */
         @Override
-        public JsonObject encode(Property property) {
-
-            // Creating object
-            JsonObjectBuilder root = Json.createObjectBuilder();
+        public void encode(JsonObjectBuilder root, Property property) {
 
             // Acquiring value
             Value dt = property.getValue();
@@ -175,7 +156,6 @@ public final class HandlerJSON {
             else
                 __encode_obj(root, property);
 
-            return root.build();
         }
 
         /**
@@ -191,32 +171,34 @@ public final class HandlerJSON {
             Value dt = property.getValue();
 
             // Encoding
-            if (dt.isText()) {
-
-                obj.add(property.getKey(), dt.asString());
-
-            } else if (dt.isNumeric()) {
-
-                if (dt.isByte()) {
+            switch (dt.getDatatype()) {
+                case STRING:
+                case CHAR:
+                    obj.add(property.getKey(), dt.asString());
+                    break;
+                case BYTE:
                     obj.add(property.getKey(), dt.asByte());
-                } else if (dt.isShort()) {
+                    break;
+                case SHORT:
                     obj.add(property.getKey(), dt.asShort());
-                } else if (dt.isInteger()) {
+                    break;
+                case INT:
                     obj.add(property.getKey(), dt.asInt());
-                } else if (dt.isLong()) {
+                    break;
+                case LONG:
                     obj.add(property.getKey(), dt.asLong());
-                } else if (dt.isFloat()) {
+                    break;
+                case FLOAT:
                     obj.add(property.getKey(), dt.asFloat());
-                } else if (dt.isDouble()) {
+                    break;
+                case DOUBLE:
                     obj.add(property.getKey(), dt.asDouble());
-                } else {
+                    break;
+                case BOOLEAN:
+                    obj.add(property.getKey(), dt.asBoolean());
+                    break;
+                default:
                     throw new IllegalStateException("Unknown datatype");
-                }
-
-            } else if (dt.isBoolean()) {
-                obj.add(property.getKey(), dt.asBoolean());
-            } else {
-                throw new IllegalStateException("Unknown datatype");
             }
 
             // Inserting description
@@ -234,81 +216,80 @@ public final class HandlerJSON {
         public void __encode_array(JsonObjectBuilder obj, Property property) {
 
             // Creating object
-            JsonArrayBuilder values = Json.createArrayBuilder();
+            JsonArrayBuilder values = Handler.Factory.JSON_BUILDER.createArrayBuilder();
 
             // Acquiring value
             Value dt = property.getValue();
 
-            if (dt.isNumericArray()) {
-
-                if (dt.isByteArray()) {
+            switch (dt.getDatatype()) {
 
-                    byte[] tmp = dt.asByteArray();
+                case ARR_BYTE:
 
-                    for (byte e : tmp) {
+                    for (byte e : dt.asByteArray()) {
                         values.add(e);
                     }
 
-                } else if (dt.isShortArray()) {
+                    break;
 
-                    short[] tmp = dt.asShortArray();
+                case ARR_SHORT:
 
-                    for (short e : tmp) {
+                    for (short e : dt.asShortArray()) {
                         values.add(e);
                     }
 
-                } else if (dt.isIntegerArray()) {
+                    break;
 
-                    int[] tmp = dt.asIntArray();
+                case ARR_INT:
 
-                    for (int e : tmp) {
+                    for (int e : dt.asIntArray()) {
                         values.add(e);
                     }
 
-                } else if (dt.isLongArray()) {
+                    break;
 
-                    long[] tmp = dt.asLongArray();
+                case ARR_LONG:
 
-                    for (long e : tmp) {
+                    for (long e : dt.asLongArray()) {
                         values.add(e);
                     }
 
-                } else if (dt.isFloatArray()) {
+                    break;
 
-                    float[] tmp = dt.asFloatArray();
+                case ARR_FLOAT:
 
-                    for (float e : tmp) {
+                    for (float e : dt.asFloatArray()) {
                         values.add(e);
                     }
 
-                } else if (dt.isDoubleArray()) {
+                    break;
 
-                    double[] tmp = dt.asDoubleArray();
+                case ARR_DOUBLE:
 
-                    for (double e : tmp) {
+                    for (double e : dt.asDoubleArray()) {
                         values.add(e);
                     }
 
-                }
+                    break;
 
-            } else if (dt.isTextArray()) {
+                case ARR_STRING:
+                case ARR_CHAR:
 
-                String[] tmp = dt.asStringArray();
+                    for (String e : dt.asStringArray()) {
+                        values.add(e);
+                    }
 
-                for (String e : tmp) {
-                    values.add(e);
-                }
+                    break;
 
-            } else if (dt.isBooleanArray()) {
+                case ARR_BOOLEAN:
 
-                boolean[] tmp = dt.asBooleanArray();
+                    for (boolean e : dt.asBooleanArray()) {
+                        values.add(e);
+                    }
 
-                for (boolean e : tmp) {
-                    values.add(e);
-                }
+                    break;
 
-            } else {
-                throw new IllegalStateException("Unknown datatype");
+                default:
+                    throw new IllegalStateException("Unknown datatype");
             }
 
             obj.add(property.getKey(), values);
@@ -320,369 +301,516 @@ public final class HandlerJSON {
     }
 
     /**
-     * The {@link ImplReaderJSON} class contains the implementations of I/O operations which can be executed on any {@link Configuration} instance
+     * The {@link ImplStreamWriterJSON} class writes any {@link Configuration} instance as JSON through a {@link JsonGenerator},
+     * property by property straight into the file, without building the object tree or the whole document text
      *
      * @author G. Baittiner
      * @version 0.1
      */
-    public static final class ImplReaderJSON implements AbstractReader<Configuration, Property, JsonObject> {
-
-        private JsonArray properties;
+    public static final class ImplStreamWriterJSON implements AbstractWriter<Configuration, Property, JsonGenerator> {
 
         /**
-         * Reads the configuration file
+         * Write the configuration file
          *
-         * @param instance The configuration instance to read and update
-         * @throws MissingConfigurationIdentifiersException If any configuration identifier (name, version) is missed
-         * @throws InvalidConfigurationNameException        If the configuration name does not match the one inside the file
-         * @throws InvalidConfigurationVersionException     If the configuration version does not match the one inside the file
-         * @throws MissingConfigurationPropertyException    If any configuration property is missing from the file
-         * @throws MalformedConfigurationPropertyException  If any configuration property is not well-formed
-         * @throws DuplicatedConfigurationPropertyException If any configuration property is declared multiple times
-         * @throws InvalidConfigurationPropertyException    If any configuration property fails its own validation test
-         * @throws UnknownConfigurationPropertyException    If there are more properties inside the file than the one declared
-         * @throws ParsingProcessException                  If a parsing exception of some sort has occurred.
-         * @throws IOException                              If an I/O exception of some sort has occurred.
+         * @param instance The configuration instance to write
+         * @throws IOException If an I/O exception of some sort has occurred.
          */
         @Override
-        public synchronized void read(Configuration instance) throws
-                IOException,
-                InvalidConfigurationNameException,
-                InvalidConfigurationVersionException,
-                MalformedConfigurationPropertyException,
-                MissingConfigurationPropertyException,
-                MissingConfigurationIdentifiersException,
-                InvalidConfigurationPropertyException,
-                UnknownConfigurationPropertyException,
-                ParsingProcessException,
-                DuplicatedConfigurationPropertyException {
-
-            READER.toObject(instance);
+        public void write(Configuration instance) throws IOException {
+            STREAM_WRITER.toFile(instance);
         }
 
         /**
-         * Reads the configuration file asynchronously
+         * Write the configuration file asynchronously
          *
-         * @param instance The configuration instance to read
-         * @return Future object representing the reading task
-         * @throws CompletionException If any exceptions occurs at runtime
+         * @param instance The configuration instance to write
+         * @param executor The executor running the writing task
+         * @return Future object representing the writing task
          */
         @Override
-        public Future<Void> readAsync(Configuration instance) {
+        public CompletableFuture<Void> writeAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
-                    read(instance);
-                } catch (
-                        IOException | InvalidConfigurationNameException | InvalidConfigurationVersionException | MalformedConfigurationPropertyException | MissingConfigurationPropertyException | InvalidConfigurationPropertyException | UnknownConfigurationPropertyException | ParsingProcessException | MissingConfigurationIdentifiersException | DuplicatedConfigurationPropertyException e) {
+                    write(instance);
+                } catch (IOException e) {
                     throw new CompletionException(e);
                 }
                 return null;
-            });
+            }, executor);
         }
 
         /**
-         * This method allow to translate a property object inside an intermediate representation
+         * Write the configuration file only if its content changed
          *
-         * @param property The property instance
+         * @param instance The configuration instance to write
+         * @return True if the file was written, false if it already had the same content
+         * @throws IOException If an I/O exception of some sort has occurred.
          */
         @Override
-        public void decode(Property property) throws
-                MissingConfigurationPropertyException,
-                MalformedConfigurationPropertyException,
-                InvalidConfigurationPropertyException,
-                DuplicatedConfigurationPropertyException {
+        public boolean writeIfChanged(Configuration instance) throws IOException {
+            return __to_file(instance, true);
+        }
 
-            // This is the intermediate property representation
-            JsonObject property0 = null;
-            // This flag stop the iteration
-            boolean stop = false;
+        /**
+         * This method allow to generate an object representation from the configuration instance
+         *
+         * @param instance The configuration instance
+         * @return The JSON representation of the following instance
+         */
+        @Override
+        public String toObject(Configuration instance) {
 
-            // Now, we look inside "properties" on each node if the current "Property" object exists
-            for (JsonValue p : properties) {
-                // Acquiring value
-                try {
-                    // So, we pick the first object inside "properties" array
-                    JsonObject tmp = p.asJsonObject();
+            StringWriter sw = new StringWriter();
 
-                    // If there is mapping on the key we are looking for, then we assign it, otherwise stay null
-                    if (tmp.get(property.getKey()) != null) {
+            try (JsonGenerator json = Handler.Factory.JSON_GENERATOR.createGenerator(sw)) {
+                __write(json, instance);
+            }
 
-                        // This means there is another property with the same key definition
-                        if (stop)
-                            throw new DuplicatedConfigurationPropertyException(property);
+            return sw.toString();
+        }
 
-                        // Assign
-                        property0 = tmp;
-                        // Update flag
-                        stop = true;
-                    }
+        /**
+         * This method allow to generate a file given any object representation of the configuration instance
+         *
+         * @param instance The configuration instance
+         * @throws IOException If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public void toFile(Configuration instance) throws IOException {
+            __to_file(instance, false);
+        }
+
+        /**
+         * This method allow to generate a file, replacing the previous one only if requested and its content changed
+         *
+         * @param instance The configuration instance
+         * @param compare  True if the previous file should be kept when the content is the same
+         * @return True if the file was replaced, otherwise false
+         * @throws IOException If something goes wrong during the process
+         */
+        private boolean __to_file(Configuration instance, boolean compare) throws IOException {
 
-                } catch (ClassCastException ex) {
-                    throw new MalformedConfigurationPropertyException("It was expecting an OBJECT type but an " + p.getValueType().name() + " type was found", property);
+            try (Handler.Output out = Handler.Output.open(instance, compare)) {
+
+                // The generator encodes through its own buffered UTF-8 writer
+                try (JsonGenerator json = Handler.Factory.JSON_GENERATOR.createGenerator(new Unindented(out.stream()), StandardCharsets.UTF_8)) {
+                    // Writing
+                    __write(json, instance);
                 }
 
+                // Say good-bye!
+                return out.commit();
+
+            } catch (JsonException e) {
+                // I/O failures are wrapped by the generator
+                if (e.getCause() instanceof IOException)
+                    throw (IOException) e.getCause();
+                throw e;
             }
 
-            // If the property was found, we proceed
-            if (property0 != null) {
+        }
 
-                // Now, the property may be an array or an object
-                JsonValue.ValueType type = property0.get(property.getKey()).getValueType();
+        /**
+         * This method allow to write the whole configuration instance on the given generator
+         *
+         * @param json     The generator
+         * @param instance The configuration instance
+         */
+        private void __write(JsonGenerator json, Configuration instance) {
 
-                // Let's handle both cases, checking validity then updating the property value
-                if (type != ARRAY) {
-                    __decode_obj(property, property0.asJsonObject());
-                } else {
-                    __decode_array(property, property0.asJsonObject());
-                }
-            }
+            json.writeStartObject();
 
-            // In the end, if it is still null, no property with the given key was found inside the file
-            if (property0 == null && !property.isOptional()) {
-                throw new MissingConfigurationPropertyException(property);
+            json.write("name", instance.getName());
+            json.write("version", instance.getVersion());
+
+            json.writeStartArray("properties");
+
+            for (Property property : instance.getPropertiesView()) {
+                encode(json, property);
             }
 
+            json.writeEnd();
+
+            json.writeEnd();
         }
 
         /**
-         * This method decode object-only property
+         * This method allow to write a property object on the given generator
          *
+         * @param root     The generator
          * @param property The property instance
-         * @param obj      The intermediate object
+         * @throws IllegalStateException If the data-type cannot be encoded as JSON-like value
          */
         @Override
-        public void __decode_obj(Property property, JsonObject obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+        public void encode(JsonGenerator root, Property property) {
 
-            Value value = property.getValue();
+            root.writeStartObject();
 
-            JsonValue.ValueType type = obj.get(property.getKey()).getValueType();
+            // Encoding
+            if (property.getValue().isArray())
+                __encode_array(root, property);
+            else
+                __encode_obj(root, property);
+
+            root.writeEnd();
+        }
+
+        /**
+         * This method encode object-only property
+         *
+         * @param root     The generator
+         * @param property The property instance
+         * @throws IllegalStateException If the data-type cannot be encoded as JSON-like value
+         */
+        @Override
+        public void __encode_obj(JsonGenerator root, Property property) {
 
-            switch (type) {
+            // Acquiring value
+            Value dt = property.getValue();
 
+            // Encoding
+            switch (dt.getDatatype()) {
                 case STRING:
+                case CHAR:
+                    root.write(property.getKey(), dt.asString());
+                    break;
+                case BYTE:
+                    root.write(property.getKey(), dt.asByte());
+                    break;
+                case SHORT:
+                    root.write(property.getKey(), dt.asShort());
+                    break;
+                case INT:
+                    root.write(property.getKey(), dt.asInt());
+                    break;
+                case LONG:
+                    root.write(property.getKey(), dt.asLong());
+                    break;
+                case FLOAT:
+                    root.write(property.getKey(), dt.asFloat());
+                    break;
+                case DOUBLE:
+                    root.write(property.getKey(), dt.asDouble());
+                    break;
+                case BOOLEAN:
+                    root.write(property.getKey(), dt.asBoolean());
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown datatype");
+            }
+
+            // Inserting description
+            root.write("description", property.getDescription());
+
+        }
 
-                    String s = obj.getString(property.getKey());
+        /**
+         * This method encode array-only property
+         *
+         * @param root     The generator
+         * @param property The property instance
+         * @throws IllegalStateException If the data-type cannot be encoded as JSON-like value
+         */
+        @Override
+        public void __encode_array(JsonGenerator root, Property property) {
+
+            // Acquiring value
+            Value dt = property.getValue();
 
-                    if (value.isString()) {
-                        property.setValue(s);
-                    } else if (value.isCharacter()) {
+            root.writeStartArray(property.getKey());
 
-                        if (s.length() > 1) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
-                        }
+            switch (dt.getDatatype()) {
 
-                        property.setValue(s.charAt(0));
+                case ARR_BYTE:
 
-                    } else {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
+                    for (byte e : dt.asByteArray()) {
+                        root.write(e);
+                    }
+
+                    break;
+
+                case ARR_SHORT:
+
+                    for (short e : dt.asShortArray()) {
+                        root.write(e);
                     }
 
                     break;
-                case NUMBER:
 
-                    BigInteger integral = obj.getJsonNumber(property.getKey()).bigIntegerValueExact();
-                    BigDecimal decimal = obj.getJsonNumber(property.getKey()).bigDecimalValue();
+                case ARR_INT:
 
+                    for (int e : dt.asIntArray()) {
+                        root.write(e);
+                    }
 
-                    if (value.isByte()) {
+                    break;
 
-                        try {
-                            property.setValue(integral.byteValueExact());
-                        } catch (ArithmeticException ex) {
-                            throw new MalformedConfigurationPropertyException("The value is out of byte range", property);
-                        }
+                case ARR_LONG:
 
-                    } else if (value.isShort()) {
+                    for (long e : dt.asLongArray()) {
+                        root.write(e);
+                    }
 
-                        try {
-                            property.setValue(integral.shortValueExact());
-                        } catch (ArithmeticException ex) {
-                            throw new MalformedConfigurationPropertyException("The value is out of short range", property);
-                        }
+                    break;
 
-                    } else if (value.isInteger()) {
+                case ARR_FLOAT:
 
-                        try {
-                            property.setValue(integral.intValueExact());
-                        } catch (ArithmeticException ex) {
-                            throw new MalformedConfigurationPropertyException("The value is out of int range", property);
-                        }
+                    for (float e : dt.asFloatArray()) {
+                        root.write(e);
+                    }
 
-                    } else if (value.isLong()) {
+                    break;
 
-                        try {
-                            property.setValue(integral.longValueExact());
-                        } catch (ArithmeticException ex) {
-                            throw new MalformedConfigurationPropertyException("The value is out of long range", property);
-                        }
+                case ARR_DOUBLE:
 
-                    } else if (value.isFloat()) {
-                        property.setValue(decimal.floatValue());
-                    } else if (value.isDouble()) {
-                        property.setValue(decimal.doubleValue());
-                    } else {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
+                    for (double e : dt.asDoubleArray()) {
+                        root.write(e);
+                    }
+
+                    break;
+
+                case ARR_STRING:
+                case ARR_CHAR:
+
+                    for (String e : dt.asStringArray()) {
+                        root.write(e);
                     }
+
                     break;
-                case TRUE:
-                case FALSE:
-                    if (value.isBoolean())
-                        property.setValue(obj.getBoolean(property.getKey()));
-                    else {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as: " + value.getClass(), property);
+
+                case ARR_BOOLEAN:
+
+                    for (boolean e : dt.asBooleanArray()) {
+                        root.write(e);
                     }
+
                     break;
-                case NULL:
-                    throw new MalformedConfigurationPropertyException("The value was NULL", property);
+
                 default:
-                    throw new MalformedConfigurationPropertyException("Unexpected value: " + obj.getValueType(), property);
+                    throw new IllegalStateException("Unknown datatype");
             }
 
-            // Final check
-            if (!property.isValid()) {
-                throw new InvalidConfigurationPropertyException("The validation test failed", property);
-            }
+            root.writeEnd();
+
+            // Inserting description
+            root.write("description", property.getDescription());
 
         }
 
         /**
-         * This method decode array-only property
-         *
-         * @param property The property instance
-         * @param obj      The intermediate array
+         * The pretty printer of the javax.json implementation opens the document with a line separator,
+         * see "https://github.com/eclipse-ee4j/yasson/issues/289", this stream drops it as it goes by
          */
-        @Override
-        public void __decode_array(Property property, JsonObject obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+        private static final class Unindented extends FilterOutputStream {
 
-            Value value = property.getValue();
+            private boolean started;
 
-            JsonArray array = obj.get(property.getKey()).asJsonArray();
+            private Unindented(OutputStream out) {
+                super(out);
+                this.started = false;
+            }
 
-            // If the array is empty...
-            if (array.size() == 0) {
+            @Override
+            public void write(int b) throws IOException {
 
-                // Just assigning empty arrays
-                Handler.Internal.__empty_array(property);
+                if (!started) {
+                    if (b == '\n' || b == '\r')
+                        return;
+                    started = true;
+                }
 
-            } else {
+                out.write(b);
+            }
 
-                switch (value.getDatatype()) {
-                    case ARR_BOOLEAN:
-                        try {
-                            boolean[] booleans = new boolean[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                booleans[i] = array.getBoolean(i);
-                            }
-                            property.setValue(booleans);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as boolean array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_BYTE:
-                        try {
-                            byte[] bytes = new byte[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                bytes[i] = Byte.parseByte(array.getInt(i) + "");
-                            }
-                            property.setValue(bytes);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as byte array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_SHORT:
-                        try {
-                            short[] shorts = new short[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                shorts[i] = Short.parseShort(array.getInt(i) + "");
-                            }
-                            property.setValue(shorts);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as short array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_INT:
-                        try {
-                            int[] integers = new int[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                integers[i] = Integer.parseInt(array.getInt(i) + "");
-                            }
-                            property.setValue(integers);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as int array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_LONG:
-                        try {
-                            long[] longs = new long[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                longs[i] = Long.parseLong(array.getInt(i) + "");
-                            }
-                            property.setValue(longs);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as long array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_FLOAT:
-                        try {
-                            float[] floats = new float[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                floats[i] = array.getJsonNumber(i).bigDecimalValue().floatValue();
-                            }
-                            property.setValue(floats);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as float array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_DOUBLE:
-                        try {
-                            double[] doubles = new double[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                doubles[i] = array.getJsonNumber(i).bigDecimalValue().doubleValue();
-                            }
-                            property.setValue(doubles);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as double array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_STRING:
-                        try {
-                            String[] strings = new String[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-                                strings[i] = array.getString(i);
-                            }
-                            property.setValue(strings);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as string array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_CHAR:
-                        try {
-                            char[] characters = new char[array.size()];
-                            for (int i = 0; i < array.size(); ++i) {
-
-                                if (array.getString(i).length() > 1) {
-                                    throw new IllegalArgumentException("One of the values cannot be decoded as char");
-                                }
-
-                                characters[i] = array.getString(i).charAt(0);
-                            }
-                            property.setValue(characters);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as chars array: " + e.getMessage(), property);
-                        }
-                        break;
-                }
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
 
-                // Final check
-                if (!property.isValid()) {
-                    throw new InvalidConfigurationPropertyException("The validation test failed", property);
+                if (!started) {
+
+                    while (len > 0 && (b[off] == '\n' || b[off] == '\r')) {
+                        ++off;
+                        --len;
+                    }
+
+                    if (len == 0)
+                        return;
+
+                    started = true;
                 }
 
+                out.write(b, off, len);
             }
+
         }
+    }
+
+    /**
+     * The {@link ImplReaderJSON} class contains the implementations of I/O operations which can be executed on any {@link Configuration} instance
+     *
+     * @author G. Baittiner
+     * @version 0.1
+     */
+    public static final class ImplReaderJSON implements AbstractReader<Configuration, Property, JsonObject> {
 
         /**
-         * This method generate the final representation of the configuration
+         * Reads the configuration file
+         *
+         * @param instance The configuration instance to read and update
+         * @throws MissingConfigurationIdentifiersException If any configuration identifier (name, version) is missed
+         * @throws InvalidConfigurationNameException        If the configuration name does not match the one inside the file
+         * @throws InvalidConfigurationVersionException     If the configuration version does not match the one inside the file
+         * @throws MissingConfigurationPropertyException    If any configuration property is missing from the file
+         * @throws MalformedConfigurationPropertyException  If any configuration property is not well-formed
+         * @throws DuplicatedConfigurationPropertyException If any configuration property is declared multiple times
+         * @throws InvalidConfigurationPropertyException    If any configuration property fails its own validation test
+         * @throws UnknownConfigurationPropertyException    If there are more properties inside the file than the one declared
+         * @throws ParsingProcessException                  If a parsing exception of some sort has occurred.
+         * @throws IOException                              If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public void read(Configuration instance) throws
+                IOException,
+                InvalidConfigurationNameException,
+                InvalidConfigurationVersionException,
+                MalformedConfigurationPropertyException,
+                MissingConfigurationPropertyException,
+                MissingConfigurationIdentifiersException,
+                InvalidConfigurationPropertyException,
+                UnknownConfigurationPropertyException,
+                ParsingProcessException,
+                DuplicatedConfigurationPropertyException {
+
+            // The streaming engine decodes the same file without building the document
+            if (instance.getEngine() == Configuration.Engine.STREAM) {
+                STREAM_READER.toObject(instance);
+            } else {
+                READER.toObject(instance);
+            }
+        }
+
+        /**
+         * Reads the configuration file asynchronously
+         *
+         * @param instance The configuration instance to read
+         * @param executor The executor running the reading task
+         * @return Future object representing the reading task
+         * @throws CompletionException If any exceptions occurs at runtime
+         */
+        @Override
+        public CompletableFuture<Void> readAsync(Configuration instance, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    read(instance);
+                } catch (
+                        IOException | InvalidConfigurationNameException | InvalidConfigurationVersionException | MalformedConfigurationPropertyException | MissingConfigurationPropertyException | InvalidConfigurationPropertyException | UnknownConfigurationPropertyException | ParsingProcessException | MissingConfigurationIdentifiersException | DuplicatedConfigurationPropertyException e) {
+                    throw new CompletionException(e);
+                }
+                return null;
+            }, executor);
+        }
+
+        /**
+         * This method allow to translate a property object inside an intermediate representation
+         *
+         * @param property  The property instance
+         * @param property0 The indexed node holding the property or null if it was not found
+         */
+        @Override
+        public void decode(Property property, JsonObject property0) throws
+                MissingConfigurationPropertyException,
+                MalformedConfigurationPropertyException,
+                InvalidConfigurationPropertyException {
+
+            // If the property was found, we proceed
+            if (property0 != null) {
+
+                // Now, the property may be an array or an object
+                JsonValue.ValueType type = property0.get(property.getKey()).getValueType();
+
+                // Let's handle both cases, checking validity then updating the property value
+                if (type != ARRAY) {
+                    __decode_obj(property, property0);
+                } else {
+                    __decode_array(property, property0);
+                }
+
+            } else if (!property.isOptional()) {
+                // No property with the given key was found inside the file
+                throw new MissingConfigurationPropertyException(property);
+            }
+
+        }
+
+        /**
+         * This method index every node inside the "properties" array by its own key in a single pass
+         *
+         * @param instance The configuration instance
+         * @param nodes    The "properties" array
+         * @return The nodes mapped by property key
+         * @throws UnknownConfigurationPropertyException    If any node key was not declared inside the configuration
+         * @throws DuplicatedConfigurationPropertyException If any node key is declared multiple times
+         * @throws MalformedConfigurationPropertyException  If any node is not a JSON object
+         */
+        private Map<String, JsonObject> index(Configuration instance, JsonArray nodes) throws
+                UnknownConfigurationPropertyException,
+                DuplicatedConfigurationPropertyException,
+                MalformedConfigurationPropertyException {
+
+            Map<String, JsonObject> index = new HashMap<>(nodes.size() * 4 / 3 + 1);
+
+            for (JsonValue p : nodes) {
+
+                // Each node is required to be an object
+                if (p.getValueType() != OBJECT) {
+                    throw Handler.Internal.JSON.__malformed_entry(instance, p.getValueType().name());
+                }
+
+                JsonObject tmp = p.asJsonObject();
+
+                // Every member which is not the description, is the property key
+                for (String key : tmp.keySet()) {
+
+                    if (key.equals("description"))
+                        continue;
+
+                    // This key does not match any property inside the configuration
+                    if (key.trim().isEmpty() || !instance.contains(key))
+                        throw new UnknownConfigurationPropertyException();
+
+                    // This means there is another property with the same key definition
+                    if (index.put(key, tmp) != null)
+                        throw new DuplicatedConfigurationPropertyException(instance.get(key));
+                }
+
+            }
+
+            return index;
+        }
+
+        /**
+         * This method decode object-only property
+         *
+         * @param property The property instance
+         * @param obj      The intermediate object
+         */
+        @Override
+        public void __decode_obj(Property property, JsonObject obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+            Handler.Internal.JSON.__decode_obj(property, obj.get(property.getKey()));
+        }
+
+        /**
+         * This method decode array-only property
+         *
+         * @param property The property instance
+         * @param obj      The intermediate array
+         */
+        @Override
+        public void __decode_array(Property property, JsonObject obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+            Handler.Internal.JSON.__decode_array(property, obj.get(property.getKey()).asJsonArray());
+        }
+
+        /**
+         * This method generate the final representation of the configuration
          *
          * @param instance The configuration instance
          */
@@ -709,23 +837,25 @@ public final class HandlerJSON {
             // Basic check to verify file header integrity
             Handler.Internal.__decode_header(instance, name, version);
 
-            this.properties = configuration.getJsonArray("properties");
+            JsonArray nodes = configuration.getJsonArray("properties");
 
-            if (this.properties == null) {
+            if (nodes == null) {
                 throw new ParsingProcessException("The 'properties' array is missing");
             }
 
-            int read = this.properties.size();
-            int expected = instance.getProperties().size();
+            int read = nodes.size();
+            int expected = instance.size();
 
             if (read > expected)
                 throw new UnknownConfigurationPropertyException();
 
-            for (Property property : instance.getProperties()) {
-                decode(property);
+            Map<String, JsonObject> properties = index(instance, nodes);
+
+            // The properties have been already indexed, so we just look for each "Property" object key
+            for (Property property : instance.getPropertiesView()) {
+                decode(property, properties.get(property.getKey()));
             }
 
-            this.properties = null;
         }
 
         /**
@@ -738,14 +868,11 @@ public final class HandlerJSON {
         @Override
         public JsonObject fromFile(Configuration instance) throws IOException, ParsingProcessException {
 
-            // Creating stream and setting charset
-            FileInputStream fis = new FileInputStream(instance.getFile());
-            InputStreamReader isr = new InputStreamReader(fis, StandardCharsets.UTF_8);
-
             JsonObject obj;
 
-            try (BufferedReader br = new BufferedReader(isr);
-                 JsonReader reader = Json.createReader(br)) {
+            // The reader decodes the file as UTF-8 by itself
+            try (Reader br = Handler.Input.open(instance).reader();
+                 JsonReader reader = Handler.Factory.JSON_READER.createReader(br)) {
 
                 obj = reader.readObject();
 
@@ -760,5 +887,299 @@ public final class HandlerJSON {
         }
     }
 
+    /**
+     * The {@link ImplStreamReaderJSON} class contains the implementations of I/O operations which can be executed on any {@link Configuration} instance.
+     * <p>
+     * Unlike {@link ImplReaderJSON}, it never builds the whole {@link JsonObject} tree:
+     * each property is decoded as soon as its events are read from the file.
+     *
+     * @author G. Baittiner
+     * @version 0.1
+     */
+    static final class ImplStreamReaderJSON implements AbstractReader<Configuration, Property, JsonParser> {
+
+        /**
+         * Reads the configuration file
+         *
+         * @param instance The configuration instance to read and update
+         * @throws MissingConfigurationIdentifiersException If any configuration identifier (name, version) is missed
+         * @throws InvalidConfigurationNameException        If the configuration name does not match the one inside the file
+         * @throws InvalidConfigurationVersionException     If the configuration version does not match the one inside the file
+         * @throws MissingConfigurationPropertyException    If any configuration property is missing from the file
+         * @throws MalformedConfigurationPropertyException  If any configuration property is not well-formed
+         * @throws DuplicatedConfigurationPropertyException If any configuration property is declared multiple times
+         * @throws InvalidConfigurationPropertyException    If any configuration property fails its own validation test
+         * @throws UnknownConfigurationPropertyException    If there are more properties inside the file than the one declared
+         * @throws ParsingProcessException                  If a parsing exception of some sort has occurred.
+         * @throws IOException                              If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public void read(Configuration instance) throws
+                IOException,
+                InvalidConfigurationNameException,
+                InvalidConfigurationVersionException,
+                MalformedConfigurationPropertyException,
+                MissingConfigurationPropertyException,
+                MissingConfigurationIdentifiersException,
+                InvalidConfigurationPropertyException,
+                UnknownConfigurationPropertyException,
+                ParsingProcessException,
+                DuplicatedConfigurationPropertyException {
+
+            STREAM_READER.toObject(instance);
+        }
+
+        /**
+         * Reads the configuration file asynchronously
+         *
+         * @param instance The configuration instance to read
+         * @param executor The executor running the reading task
+         * @return Future object representing the reading task
+         * @throws CompletionException If any exceptions occurs at runtime
+         */
+        @Override
+        public CompletableFuture<Void> readAsync(Configuration instance, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    read(instance);
+                } catch (
+                        IOException | InvalidConfigurationNameException | InvalidConfigurationVersionException | MalformedConfigurationPropertyException | MissingConfigurationPropertyException | InvalidConfigurationPropertyException | UnknownConfigurationPropertyException | ParsingProcessException | MissingConfigurationIdentifiersException | DuplicatedConfigurationPropertyException e) {
+                    throw new CompletionException(e);
+                }
+                return null;
+            }, executor);
+        }
+
+        /**
+         * This method decode the property value the parser is currently pointing to
+         *
+         * @param property The property instance
+         * @param parser   The parser pointing to the property key
+         */
+        @Override
+        public void decode(Property property, JsonParser parser) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+
+            // The declared value tells us what we are expecting to read
+            if (property.getValue().isArray()) {
+                __decode_array(property, parser);
+            } else {
+                __decode_obj(property, parser);
+            }
+
+        }
+
+        /**
+         * This method generate the final representation of the configuration
+         *
+         * @param instance The configuration instance
+         */
+        @Override
+        public void toObject(Configuration instance) throws
+                IOException,
+                InvalidConfigurationNameException,
+                InvalidConfigurationVersionException,
+                MissingConfigurationPropertyException,
+                MalformedConfigurationPropertyException,
+                InvalidConfigurationPropertyException,
+                UnknownConfigurationPropertyException,
+                ParsingProcessException,
+                MissingConfigurationIdentifiersException,
+                DuplicatedConfigurationPropertyException {
+
+            // These values must be declared as 'null'
+            String name = null;
+            String version = null;
+
+            // The keys of every property decoded so far
+            Set<String> decoded = null;
+
+            try (JsonParser parser = fromFile(instance)) {
+
+                if (parser.next() != JsonParser.Event.START_OBJECT) {
+                    throw new ParsingProcessException("The configuration object is missing");
+                }
+
+                JsonParser.Event e;
+
+                while ((e = parser.next()) != JsonParser.Event.END_OBJECT) {
+
+                    // Acquiring the member name
+                    String key = parser.getString();
+                    // Moving on its value
+                    e = parser.next();
+
+                    if (key.equals("name") && e == JsonParser.Event.VALUE_STRING) {
+                        name = parser.getString();
+                    } else if (key.equals("version") && e == JsonParser.Event.VALUE_STRING) {
+                        version = parser.getString();
+                    } else if (key.equals("properties") && e == JsonParser.Event.START_ARRAY) {
+                        // When the header was already read, it is verified before touching any property
+                        if (name != null && version != null)
+                            Handler.Internal.__decode_header(instance, name, version);
+                        // Decoding
+                        decoded = __decode_properties(instance, parser);
+                    } else {
+                        // Anything else is skipped without being built
+                        __skip(parser, e);
+                    }
+
+                }
+
+            } catch (JsonParsingException | NoSuchElementException e) {
+                throw new ParsingProcessException(e.getMessage());
+            } catch (JsonException e) {
+                throw new IOException(e.getMessage());
+            }
+
+            // Basic check to verify file header integrity, the members can be declared in any order
+            Handler.Internal.__decode_header(instance, name, version);
+
+            // If the header is fine, 'properties' must not be missing from the configuration
+            if (decoded == null) {
+                throw new ParsingProcessException("The 'properties' array is missing");
+            }
+
+            // In the end, any property which was not read must be optional
+            for (Property property : instance.getPropertiesView()) {
+                if (!decoded.contains(property.getKey()) && !property.isOptional()) {
+                    throw new MissingConfigurationPropertyException(property);
+                }
+            }
+
+        }
+
+        /**
+         * This method generate an intermediate object representation of the configuration from the file
+         *
+         * @param instance The configuration instance
+         * @return The parser over the configuration file, it must be closed by the caller
+         * @throws IOException If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public JsonParser fromFile(Configuration instance) throws IOException {
+
+            // The reader decodes the file as UTF-8 by itself
+            Reader reader = Handler.Input.open(instance).reader();
+
+            try {
+                // Closing the parser closes the reader too
+                return Handler.Factory.JSON_PARSER.createParser(reader);
+            } catch (RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+        }
+
+        /**
+         * This method decode object-only property
+         *
+         * @param property The property instance
+         * @param parser   The parser pointing to the property key
+         */
+        @Override
+        public void __decode_obj(Property property, JsonParser parser) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+
+            JsonParser.Event e = parser.next();
+
+            if (e == JsonParser.Event.START_ARRAY || e == JsonParser.Event.START_OBJECT) {
+                throw new MalformedConfigurationPropertyException("Unexpected value: " + e.name(), property);
+            }
+
+            Handler.Internal.JSON.__decode_obj(property, parser.getValue());
+        }
+
+        /**
+         * This method decode array-only property
+         *
+         * @param property The property instance
+         * @param parser   The parser pointing to the property key
+         */
+        @Override
+        public void __decode_array(Property property, JsonParser parser) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
+
+            JsonParser.Event e = parser.next();
+
+            if (e != JsonParser.Event.START_ARRAY) {
+                throw new MalformedConfigurationPropertyException("It was expecting an ARRAY type but an " + e.name() + " type was found", property);
+            }
+
+            // Only the current array is built
+            Handler.Internal.JSON.__decode_array(property, parser.getArray());
+        }
+
+        /**
+         * This method decode every property inside the "properties" array as they are read
+         *
+         * @param instance The configuration instance
+         * @param parser   The parser pointing to the start of the array
+         * @return The keys of the decoded properties
+         */
+        private Set<String> __decode_properties(Configuration instance, JsonParser parser) throws
+                ParsingProcessException,
+                UnknownConfigurationPropertyException,
+                DuplicatedConfigurationPropertyException,
+                MalformedConfigurationPropertyException,
+                InvalidConfigurationPropertyException {
+
+            Set<String> decoded = new HashSet<>();
+
+            int read = 0;
+            int expected = instance.size();
+
+            JsonParser.Event e;
+
+            while ((e = parser.next()) != JsonParser.Event.END_ARRAY) {
+
+                // Each node is required to be an object
+                if (e != JsonParser.Event.START_OBJECT) {
+                    throw Handler.Internal.JSON.__malformed_entry(instance, e.name());
+                }
+
+                if (++read > expected)
+                    throw new UnknownConfigurationPropertyException();
+
+                while (parser.next() != JsonParser.Event.END_OBJECT) {
+
+                    String key = parser.getString();
+
+                    // The description is not needed while reading
+                    if (key.equals("description")) {
+                        __skip(parser, parser.next());
+                        continue;
+                    }
+
+                    // This key does not match any property inside the configuration
+                    if (key.trim().isEmpty() || !instance.contains(key))
+                        throw new UnknownConfigurationPropertyException();
+
+                    Property property = instance.get(key);
+
+                    // This means there is another property with the same key definition
+                    if (!decoded.add(key))
+                        throw new DuplicatedConfigurationPropertyException(property);
+
+                    // Decoding straight into the property
+                    decode(property, parser);
+                }
+
+            }
+
+            return decoded;
+        }
+
+        /**
+         * This method skip the value the parser is currently pointing to
+         *
+         * @param parser The parser
+         * @param e      The current event
+         */
+        private static void __skip(JsonParser parser, JsonParser.Event e) {
+            if (e == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (e == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+        }
+    }
 
 }
\ No newline at end of file
@@ -14,21 +14,21 @@ import org.tinyconfiguration.imp.basic.ex.property.*;
 import org.w3c.dom.*;
 import org.xml.sax.SAXException;
 
+import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
+import javax.xml.stream.*;
+import javax.xml.stream.util.StreamReaderDelegate;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link HandlerXML} provides methods to convert the underlying data representation as XML
@@ -40,15 +40,14 @@ public final class HandlerXML {
 
     public static final ImplWriterXML WRITER = new ImplWriterXML();
     public static final ImplReaderXML READER = new ImplReaderXML();
+    public static final ImplStreamWriterXML STREAM_WRITER = new ImplStreamWriterXML();
+    static final ImplStreamReaderXML STREAM_READER = new ImplStreamReaderXML();
 
     private HandlerXML() {
     }
 
     public static final class ImplWriterXML implements AbstractWriter<Configuration, Property, Element> {
 
-        private Document xml;
-
-
         /**
          * Write the configuration file
          *
@@ -56,18 +55,24 @@ public final class HandlerXML {
          * @throws IOException If anything goes wrong while processing the file
          */
         @Override
-        public synchronized void write(Configuration instance) throws IOException {
-            WRITER.toFile(instance);
+        public void write(Configuration instance) throws IOException {
+            // The streaming engine writes the same file without building the document
+            if (instance.getEngine() == Configuration.Engine.STREAM) {
+                STREAM_WRITER.toFile(instance);
+            } else {
+                WRITER.toFile(instance);
+            }
         }
 
         /**
          * Write the configuration file asynchronously
          *
          * @param instance The configuration instance to write
+         * @param executor The executor running the writing task
          * @return Future object representing the writing task
          */
         @Override
-        public Future<Void> writeAsync(Configuration instance) {
+        public CompletableFuture<Void> writeAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     write(instance);
@@ -75,7 +80,23 @@ public final class HandlerXML {
                     throw new CompletionException(e);
                 }
                 return null;
-            });
+            }, executor);
+        }
+
+        /**
+         * Write the configuration file only if its content changed
+         *
+         * @param instance The configuration instance to write
+         * @return True if the file was written, false if it already had the same content
+         * @throws IOException If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public boolean writeIfChanged(Configuration instance) throws IOException {
+
+            if (instance.getEngine() == Configuration.Engine.STREAM)
+                return STREAM_WRITER.writeIfChanged(instance);
+
+            return __to_file(instance, true);
         }
 
 
@@ -89,18 +110,17 @@ public final class HandlerXML {
         @Override
         public Document toObject(Configuration instance) throws IOException {
 
-            DocumentBuilderFactory builder = DocumentBuilderFactory.newInstance();
-            // Using factory to get an instance of document builder
+            // Using the cached document builder of this thread
             DocumentBuilder db;
 
             try {
-                db = builder.newDocumentBuilder();
+                db = Handler.Factory.__document_builder();
             } catch (ParserConfigurationException e) {
                 throw new IOException(e);
             }
 
             // Creating the doc representation
-            this.xml = db.newDocument();
+            Document xml = db.newDocument();
 
             // The root element
             Element root = xml.createElement("configuration");
@@ -110,8 +130,12 @@ public final class HandlerXML {
 
             Element properties = xml.createElement("properties");
 
-            for (Property property : instance.getProperties()) {
-                Element node = encode(property);
+            for (Property property : instance.getPropertiesView()) {
+                // Creating object
+                Element node = xml.createElement(property.getKey());
+                // Encoding
+                encode(node, property);
+                // Inserting
                 properties.appendChild(node);
             }
 
@@ -132,25 +156,41 @@ public final class HandlerXML {
          */
         @Override
         public void toFile(Configuration instance) throws IOException {
+            __to_file(instance, false);
+        }
+
+        /**
+         * This method allow to generate a file, replacing the previous one only if requested and its content changed
+         *
+         * @param instance The configuration instance
+         * @param compare  True if the previous file should be kept when the content is the same
+         * @return True if the file was replaced, otherwise false
+         * @throws IOException If something goes wrong during the process
+         */
+        private boolean __to_file(Configuration instance, boolean compare) throws IOException {
 
             try {
                 // Getting document
                 Document obj = this.toObject(instance);
 
-                // Generating xml writer
-                TransformerFactory factory = TransformerFactory.newInstance();
-                Transformer transformer = factory.newTransformer();
+                // Acquiring the xml writer, output properties are already applied
+                Transformer transformer = Handler.Factory.__transformer();
 
-                // Applying output property
-                transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-                transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+                try (Handler.Output out = Handler.Output.open(instance, compare)) {
 
-                // Creating output stream
-                DOMSource source = new DOMSource(obj);
-                StreamResult stream = new StreamResult(instance.getFile());
+                    try (OutputStream os = new BufferedOutputStream(out.stream())) {
+                        // Creating output stream
+                        DOMSource source = new DOMSource(obj);
+                        StreamResult stream = new StreamResult(os);
+
+                        // Writing
+                        transformer.transform(source, stream);
+                    }
+
+                    // Replacing the file as a whole
+                    return out.commit();
+                }
 
-                // Writing
-                transformer.transform(source, stream);
             } catch (TransformerException e) {
                 throw new IOException(e);
             }
@@ -160,13 +200,11 @@ public final class HandlerXML {
         /**
          * This method allow to insert a property object inside an intermediate representation
          *
+         * @param root     The property element
          * @param property The property instance
-         * @return The new representation
          */
         @Override
-        public Element encode(Property property) {
-            // Creating object
-            Element root = xml.createElement(property.getKey());
+        public void encode(Element root, Property property) {
             // Acquiring value
             Value dt = property.getValue();
 
@@ -176,7 +214,6 @@ public final class HandlerXML {
             else
                 __encode_obj(root, property);
 
-            return root;
         }
 
         /**
@@ -188,10 +225,13 @@ public final class HandlerXML {
         @Override
         public void __encode_obj(Element root, Property property) {
 
-            Element value = this.xml.createElement("value");
+            // The document owning the property element
+            Document xml = root.getOwnerDocument();
+
+            Element value = xml.createElement("value");
             value.setTextContent(property.getValue().asString());
 
-            Element description = this.xml.createElement("description");
+            Element description = xml.createElement("description");
             description.setTextContent(property.getDescription());
 
             root.appendChild(value);
@@ -207,16 +247,19 @@ public final class HandlerXML {
         @Override
         public void __encode_array(Element root, Property property) {
 
-            Element values = this.xml.createElement("values");
+            // The document owning the property element
+            Document xml = root.getOwnerDocument();
+
+            Element values = xml.createElement("values");
             for (String tmp : property.getValue().asStringArray()) {
                 // Generating each value
-                Element value = this.xml.createElement("value");
+                Element value = xml.createElement("value");
                 value.setTextContent(tmp);
                 // Now appending to it
                 values.appendChild(value);
             }
 
-            Element description = this.xml.createElement("description");
+            Element description = xml.createElement("description");
             description.setTextContent(property.getDescription());
 
             root.appendChild(values);
@@ -227,8 +270,6 @@ public final class HandlerXML {
 
     public static final class ImplReaderXML implements AbstractReader<Configuration, Property, Element> {
 
-        private List<Element> properties;
-
         /**
          * Reads the configuration file
          *
@@ -245,30 +286,34 @@ public final class HandlerXML {
          * @throws IOException                              If an I/O exception of some sort has occurred.
          */
         @Override
-        public synchronized void read(Configuration instance) throws IOException, MissingConfigurationPropertyException, InvalidConfigurationNameException, InvalidConfigurationPropertyException, ParsingProcessException, MissingConfigurationIdentifiersException, InvalidConfigurationVersionException, UnknownConfigurationPropertyException, DuplicatedConfigurationPropertyException, MalformedConfigurationPropertyException {
-            READER.toObject(instance);
+        public void read(Configuration instance) throws IOException, MissingConfigurationPropertyException, InvalidConfigurationNameException, InvalidConfigurationPropertyException, ParsingProcessException, MissingConfigurationIdentifiersException, InvalidConfigurationVersionException, UnknownConfigurationPropertyException, DuplicatedConfigurationPropertyException, MalformedConfigurationPropertyException {
+            // The streaming engine decodes the same file without building the document
+            if (instance.getEngine() == Configuration.Engine.STREAM) {
+                STREAM_READER.toObject(instance);
+            } else {
+                READER.toObject(instance);
+            }
         }
 
         /**
          * Reads the configuration file asynchronously
          *
          * @param instance The configuration instance to read
+         * @param executor The executor running the reading task
          * @return Future object representing the reading task
          * @throws CompletionException If any exceptions occurs at runtime
          */
         @Override
-        public Future<Void> readAsync(Configuration instance) {
+        public CompletableFuture<Void> readAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     read(instance);
                 } catch (
                         IOException | InvalidConfigurationNameException | InvalidConfigurationVersionException | MalformedConfigurationPropertyException | MissingConfigurationPropertyException | InvalidConfigurationPropertyException | UnknownConfigurationPropertyException | ParsingProcessException | MissingConfigurationIdentifiersException | DuplicatedConfigurationPropertyException e) {
                     throw new CompletionException(e);
-                } catch (Exception e) {
-                    e.printStackTrace();
                 }
                 return null;
-            });
+            }, executor);
         }
 
         /**
@@ -286,7 +331,6 @@ public final class HandlerXML {
 
             String name = basic.getNamedItem("name").getNodeValue();
             String version = basic.getNamedItem("version").getNodeValue();
-            this.properties = new ArrayList<>();
 
             // Basic check to verify file header integrity
             Handler.Internal.__decode_header(instance, name, version);
@@ -298,29 +342,37 @@ public final class HandlerXML {
             }
 
             int read = 0;
-            int expected = instance.getProperties().size();
+            int expected = instance.size();
 
             Node root = properties.item(0);
 
+            // The property elements mapped by key
+            Map<String, Element> index = new HashMap<>();
+
             // Iterating properties list
             for (Node p = root.getFirstChild(); p != null; p = p.getNextSibling()) {
                 // Skipping any useless node like
                 if (p.getNodeType() == Node.ELEMENT_NODE) {
-                    // Adding as element to properties list
-                    this.properties.add((Element) p);
                     // Summing node properties
-                    read += 1;
+                    if (++read > expected)
+                        throw new UnknownConfigurationPropertyException();
+
+                    String key = p.getNodeName();
+
+                    // This key does not match any property inside the configuration
+                    if (!instance.contains(key))
+                        throw new UnknownConfigurationPropertyException();
+
+                    // This means there is another property with the same key definition
+                    if (index.put(key, (Element) p) != null)
+                        throw new DuplicatedConfigurationPropertyException(instance.get(key));
                 }
             }
 
-            if (read > expected)
-                throw new UnknownConfigurationPropertyException();
-
-            for (Property property : instance.getProperties()) {
-                decode(property);
+            for (Property property : instance.getPropertiesView()) {
+                decode(property, index.get(property.getKey()));
             }
 
-            this.properties = null;
         }
 
         /**
@@ -333,15 +385,15 @@ public final class HandlerXML {
         @Override
         public Document fromFile(Configuration instance) throws ParsingProcessException, IOException {
 
-            DocumentBuilderFactory builder = DocumentBuilderFactory.newInstance();
-
             Document doc;
 
             try {
-                // Using factory to get an instance of document builder
-                DocumentBuilder db = builder.newDocumentBuilder();
-                // Creating the doc representation
-                doc = db.parse(instance.getFile());
+                // Using the cached document builder of this thread
+                DocumentBuilder db = Handler.Factory.__document_builder();
+                // Creating the doc representation, the parser detects the declared encoding by itself
+                try (InputStream is = Handler.Input.open(instance).stream()) {
+                    doc = db.parse(is, instance.getFile().toURI().toString());
+                }
             } catch (ParserConfigurationException | SAXException e) {
                 throw new ParsingProcessException(e.getMessage());
             }
@@ -354,30 +406,11 @@ public final class HandlerXML {
         /**
          * This method allow to translate a property object inside an intermediate representation
          *
-         * @param property The property instance
+         * @param property  The property instance
+         * @param property0 The property element or null if it was not found
          */
         @Override
-        public void decode(Property property) throws DuplicatedConfigurationPropertyException, MissingConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
-
-            // The node we are looking for
-            Element property0 = null;
-            // This flag stop the iteration
-            boolean stop = false;
-
-            // Iterating properties list
-            for (Element p : properties) {
-                // Found, let's get it
-                if (p.getNodeName().equals(property.getKey())) {
-                    // This means there is another property with the same key definition
-                    if (stop) {
-                        throw new DuplicatedConfigurationPropertyException(property);
-                    }
-                    // Save
-                    property0 = p;
-                    // Update flag
-                    stop = true;
-                }
-            }
+        public void decode(Property property, Element property0) throws MissingConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
 
             // If the property was found, we proceed
             if (property0 != null) {
@@ -425,69 +458,8 @@ public final class HandlerXML {
             // Acquiring the element
             Element va0 = (Element) obj0.item(0);
 
-            switch (property.getValue().getDatatype()) {
-                case BOOLEAN:
-                    if (va0.getTextContent().equalsIgnoreCase("true"))
-                        property.setValue(true);
-                    else if (va0.getTextContent().equalsIgnoreCase("false"))
-                        property.setValue(false);
-                    else
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as boolean", property);
-                    break;
-                case BYTE:
-                    try {
-                        property.setValue(Byte.parseByte(va0.getTextContent()));
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException(e.getMessage(), property);
-                    }
-                    break;
-                case SHORT:
-                    try {
-                        property.setValue(Short.parseShort(va0.getTextContent()));
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException(e.getMessage(), property);
-                    }
-                    break;
-                case INT:
-                    try {
-                        property.setValue(Integer.parseInt(va0.getTextContent()));
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException(e.getMessage(), property);
-                    }
-                    break;
-                case LONG:
-                    try {
-                        property.setValue(Long.parseLong(va0.getTextContent()));
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException(e.getMessage(), property);
-                    }
-                    break;
-                case FLOAT:
-                    try {
-                        property.setValue(Float.parseFloat(va0.getTextContent()));
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException(e.getMessage(), property);
-                    }
-                    break;
-                case DOUBLE:
-                    try {
-                        property.setValue(Double.parseDouble(va0.getTextContent()));
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException(e.getMessage(), property);
-                    }
-                    break;
-                case STRING:
-                    property.setValue(va0.getTextContent());
-                    break;
-                case CHAR:
-                    if (va0.getTextContent().length() > 1) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as char", property);
-                    }
-                    property.setValue(va0.getTextContent().charAt(0));
-                    break;
-                default:
-                    throw new MalformedConfigurationPropertyException("Unexpected value: " + obj.getTextContent(), property);
-            }
+            // Setting value
+            Handler.Internal.__decode_value(property, va0.getTextContent());
 
             // Final check
             if (!property.isValid()) {
@@ -505,8 +477,6 @@ public final class HandlerXML {
         @Override
         public void __decode_array(Property property, Element obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException {
 
-            Value value = property.getValue();
-
             // Obtaining "value" element
             NodeList obj0 = obj.getElementsByTagName("values");
 
@@ -521,137 +491,618 @@ public final class HandlerXML {
             // Acquiring all node values
             NodeList values0 = va0.getElementsByTagName("value");
 
-            // If it's empty, well done, we can move on
-            if (values0 == null || values0.getLength() == 0) {
-                // Just assigning empty arrays
-                Handler.Internal.__empty_array(property);
-            } else {
+            List<String> values = new ArrayList<>();
+
+            // Acquiring all values node
+            for (int i = 0; values0 != null && i < values0.getLength(); ++i) {
+
+                if (values0.item(i).getNodeType() == Node.ELEMENT_NODE) {
+                    // Fast cast to verify if element is right type
+                    Element value1 = (Element) values0.item(i);
+                    // Adding only if it's a value
+                    if (value1.getTagName().equals("value"))
+                        values.add(value1.getTextContent());
+                }
+
+            }
+
+            // Setting values, if it's empty we are just assigning empty arrays
+            Handler.Internal.__decode_values(property, values);
+
+            // Final check
+            if (!property.isValid()) {
+                throw new InvalidConfigurationPropertyException("The validation test failed", property);
+            }
+
+        }
+    }
+
+    /**
+     * The {@link ImplStreamWriterXML} class writes any {@link Configuration} instance as XML through a {@link XMLStreamWriter},
+     * without building the document tree or going through a {@link Transformer}
+     *
+     * @author G. Baittiner
+     * @version 0.1
+     */
+    public static final class ImplStreamWriterXML implements AbstractWriter<Configuration, Property, XMLStreamWriter> {
+
+        // The line break followed by the indentation of each depth, the deepest element is a value item
+        private static final String[] INDENTS = {
+                "\n",
+                "\n    ",
+                "\n        ",
+                "\n            ",
+                "\n                "
+        };
+
+        /**
+         * Write the configuration file
+         *
+         * @param instance The configuration instance to write
+         * @throws IOException If anything goes wrong while processing the file
+         */
+        @Override
+        public void write(Configuration instance) throws IOException {
+            STREAM_WRITER.toFile(instance);
+        }
+
+        /**
+         * Write the configuration file asynchronously
+         *
+         * @param instance The configuration instance to write
+         * @param executor The executor running the writing task
+         * @return Future object representing the writing task
+         */
+        @Override
+        public CompletableFuture<Void> writeAsync(Configuration instance, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    write(instance);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+                return null;
+            }, executor);
+        }
+
+        /**
+         * Write the configuration file only if its content changed
+         *
+         * @param instance The configuration instance to write
+         * @return True if the file was written, false if it already had the same content
+         * @throws IOException If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public boolean writeIfChanged(Configuration instance) throws IOException {
+            return __to_file(instance, true);
+        }
+
+        /**
+         * This method allow to generate an object representation from the configuration instance
+         *
+         * @param instance The configuration instance
+         * @return The XML representation of the following instance
+         * @throws IOException If something goes wrong during the process
+         */
+        @Override
+        public String toObject(Configuration instance) throws IOException {
+
+            StringWriter sw = new StringWriter();
+
+            try {
+
+                XMLStreamWriter xml = Handler.Factory.XML_OUTPUT.createXMLStreamWriter(sw);
+
+                try {
+                    __write(xml, instance);
+                } finally {
+                    xml.close();
+                }
+
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+
+            return sw.toString();
+        }
+
+        /**
+         * This method allow to generate a file given any object representation of the configuration instance
+         *
+         * @param instance The configuration instance
+         * @throws IOException If something goes wrong during the process
+         */
+        @Override
+        public void toFile(Configuration instance) throws IOException {
+            __to_file(instance, false);
+        }
+
+        /**
+         * This method allow to generate a file, replacing the previous one only if requested and its content changed
+         *
+         * @param instance The configuration instance
+         * @param compare  True if the previous file should be kept when the content is the same
+         * @return True if the file was replaced, otherwise false
+         * @throws IOException If something goes wrong during the process
+         */
+        private boolean __to_file(Configuration instance, boolean compare) throws IOException {
+
+            try (Handler.Output out = Handler.Output.open(instance, compare)) {
 
-                List<Element> values = new ArrayList<>();
+                try (Writer bw = out.writer()) {
 
-                // Acquiring all values node
-                for (int i = 0; i < values0.getLength(); ++i) {
+                    XMLStreamWriter xml = Handler.Factory.XML_OUTPUT.createXMLStreamWriter(bw);
 
-                    if (values0.item(i).getNodeType() == Node.ELEMENT_NODE) {
-                        // Fast cast to verify if element is right type
-                        Element value1 = (Element) values0.item(i);
-                        // Adding only if it's a value
-                        if (value1.getTagName().equals("value"))
-                            values.add((Element) values0.item(i));
+                    try {
+                        // Writing
+                        __write(xml, instance);
+                        // Flushing
+                        xml.flush();
+                    } finally {
+                        xml.close();
                     }
 
                 }
 
-                switch (value.getDatatype()) {
-                    case ARR_BOOLEAN:
-                        try {
-                            boolean[] booleans = new boolean[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                booleans[i] = Boolean.parseBoolean(values.get(i).getTextContent());
-                            }
-                            property.setValue(booleans);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as boolean array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_BYTE:
-                        try {
-                            byte[] bytes = new byte[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                bytes[i] = Byte.parseByte(values.get(i).getTextContent());
-                            }
-                            property.setValue(bytes);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as byte array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_SHORT:
-                        try {
-                            short[] shorts = new short[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                shorts[i] = Short.parseShort(values.get(i).getTextContent());
-                            }
-                            property.setValue(shorts);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as short array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_INT:
-                        try {
-                            int[] integers = new int[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                integers[i] = Integer.parseInt(values.get(i).getTextContent());
-                            }
-                            property.setValue(integers);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as int array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_LONG:
-                        try {
-                            long[] longs = new long[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                longs[i] = Long.parseLong(values.get(i).getTextContent());
-                            }
-                            property.setValue(longs);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as long array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_FLOAT:
-                        try {
-                            float[] floats = new float[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                floats[i] = Float.parseFloat(values.get(i).getTextContent());
-                            }
-                            property.setValue(floats);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as float array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_DOUBLE:
-                        try {
-                            double[] doubles = new double[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                doubles[i] = Double.parseDouble(values.get(i).getTextContent());
-                            }
-                            property.setValue(doubles);
-                        } catch (NumberFormatException e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as double array: " + e.getMessage(), property);
-                        }
-                        break;
-                    case ARR_STRING:
+                // Replacing the file as a whole
+                return out.commit();
+
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+
+        }
+
+        /**
+         * This method allow to write the whole configuration instance on the given stream
+         *
+         * @param xml      The stream
+         * @param instance The configuration instance
+         * @throws IOException If something goes wrong during the process
+         */
+        private void __write(XMLStreamWriter xml, Configuration instance) throws IOException, XMLStreamException {
+
+            try {
+
+                xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+
+                // The root element
+                indent(xml, 0);
+                xml.writeStartElement("configuration");
+                xml.writeAttribute("name", instance.getName());
+                xml.writeAttribute("version", instance.getVersion());
+
+                indent(xml, 1);
+                xml.writeStartElement("properties");
+
+                for (Property property : instance.getPropertiesView()) {
+                    encode(xml, property);
+                }
+
+                indent(xml, 1);
+                xml.writeEndElement();
+
+                indent(xml, 0);
+                xml.writeEndElement();
+
+                xml.writeEndDocument();
+
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+        }
+
+        /**
+         * This method allow to write a property object on the given stream
+         *
+         * @param root     The stream
+         * @param property The property instance
+         * @throws UncheckedIOException If something goes wrong while writing
+         */
+        @Override
+        public void encode(XMLStreamWriter root, Property property) {
+
+            try {
+
+                indent(root, 2);
+                root.writeStartElement(property.getKey());
+
+                // Encoding
+                if (property.getValue().isArray())
+                    __encode_array(root, property);
+                else
+                    __encode_obj(root, property);
+
+                indent(root, 2);
+                root.writeEndElement();
+
+            } catch (XMLStreamException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+
+        }
+
+        /**
+         * This method encode object-only property
+         *
+         * @param root     The stream
+         * @param property The property instance
+         * @throws UncheckedIOException If something goes wrong while writing
+         */
+        @Override
+        public void __encode_obj(XMLStreamWriter root, Property property) {
+
+            try {
+
+                indent(root, 3);
+                root.writeStartElement("value");
+                root.writeCharacters(property.getValue().asString());
+                root.writeEndElement();
+
+                __encode_description(root, property);
+
+            } catch (XMLStreamException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+
+        }
+
+        /**
+         * This method encode array-only property
+         *
+         * @param root     The stream
+         * @param property The property instance
+         * @throws UncheckedIOException If something goes wrong while writing
+         */
+        @Override
+        public void __encode_array(XMLStreamWriter root, Property property) {
+
+            try {
+
+                String[] values = property.getValue().asStringArray();
+
+                indent(root, 3);
+
+                if (values.length == 0) {
+                    root.writeEmptyElement("values");
+                } else {
+
+                    root.writeStartElement("values");
+
+                    for (String tmp : values) {
+                        // Generating each value
+                        indent(root, 4);
+                        root.writeStartElement("value");
+                        root.writeCharacters(tmp);
+                        root.writeEndElement();
+                    }
+
+                    indent(root, 3);
+                    root.writeEndElement();
+                }
+
+                __encode_description(root, property);
+
+            } catch (XMLStreamException e) {
+                throw new UncheckedIOException(new IOException(e));
+            }
+
+        }
+
+        private static void __encode_description(XMLStreamWriter root, Property property) throws XMLStreamException {
+            indent(root, 3);
+            root.writeStartElement("description");
+            root.writeCharacters(property.getDescription());
+            root.writeEndElement();
+        }
+
+        private static void indent(XMLStreamWriter xml, int depth) throws XMLStreamException {
+            xml.writeCharacters(INDENTS[depth]);
+        }
+    }
+
+    /**
+     * The {@link ImplStreamReaderXML} class reads any {@link Configuration} instance through a {@link XMLStreamReader},
+     * decoding each property as soon as its element is read, without building the document tree
+     *
+     * @author G. Baittiner
+     * @version 0.1
+     */
+    static final class ImplStreamReaderXML implements AbstractReader<Configuration, Property, XMLStreamReader> {
+
+        /**
+         * Reads the configuration file
+         *
+         * @param instance The configuration instance to read and update
+         * @throws MissingConfigurationIdentifiersException If any configuration identifier (name, version) is missed
+         * @throws InvalidConfigurationNameException        If the configuration name does not match the one inside the file
+         * @throws InvalidConfigurationVersionException     If the configuration version does not match the one inside the file
+         * @throws MissingConfigurationPropertyException    If any configuration property is missing from the file
+         * @throws MalformedConfigurationPropertyException  If any configuration property is not well-formed
+         * @throws DuplicatedConfigurationPropertyException If any configuration property is declared multiple times
+         * @throws InvalidConfigurationPropertyException    If any configuration property fails its own validation test
+         * @throws UnknownConfigurationPropertyException    If there are more properties inside the file than the one declared
+         * @throws ParsingProcessException                  If a parsing exception of some sort has occurred.
+         * @throws IOException                              If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public void read(Configuration instance) throws IOException, MissingConfigurationPropertyException, InvalidConfigurationNameException, InvalidConfigurationPropertyException, ParsingProcessException, MissingConfigurationIdentifiersException, InvalidConfigurationVersionException, UnknownConfigurationPropertyException, DuplicatedConfigurationPropertyException, MalformedConfigurationPropertyException {
+            STREAM_READER.toObject(instance);
+        }
+
+        /**
+         * Reads the configuration file asynchronously
+         *
+         * @param instance The configuration instance to read
+         * @param executor The executor running the reading task
+         * @return Future object representing the reading task
+         * @throws CompletionException If any exceptions occurs at runtime
+         */
+        @Override
+        public CompletableFuture<Void> readAsync(Configuration instance, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    read(instance);
+                } catch (
+                        IOException | InvalidConfigurationNameException | InvalidConfigurationVersionException | MalformedConfigurationPropertyException | MissingConfigurationPropertyException | InvalidConfigurationPropertyException | UnknownConfigurationPropertyException | ParsingProcessException | MissingConfigurationIdentifiersException | DuplicatedConfigurationPropertyException e) {
+                    throw new CompletionException(e);
+                }
+                return null;
+            }, executor);
+        }
+
+        /**
+         * This method generate the final representation of the configuration
+         *
+         * @param instance The configuration instance
+         */
+        @Override
+        public void toObject(Configuration instance) throws ParsingProcessException, IOException, MissingConfigurationIdentifiersException, InvalidConfigurationNameException, InvalidConfigurationVersionException, UnknownConfigurationPropertyException, DuplicatedConfigurationPropertyException, MissingConfigurationPropertyException, InvalidConfigurationPropertyException, MalformedConfigurationPropertyException {
+
+            Set<String> decoded = null;
+
+            XMLStreamReader xml = fromFile(instance);
+
+            try {
+
+                // Moving on the root element
+                xml.nextTag();
+
+                // Basic check to verify file header integrity
+                Handler.Internal.__decode_header(instance,
+                        xml.getAttributeValue(XMLConstants.NULL_NS_URI, "name"),
+                        xml.getAttributeValue(XMLConstants.NULL_NS_URI, "version"));
+
+                // Looking for the properties node, anything else is skipped
+                while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    if (decoded == null && xml.getLocalName().equals("properties")) {
+                        decoded = __decode_properties(instance, xml);
+                    } else {
+                        __skip(xml);
+                    }
+                }
+
+            } catch (XMLStreamException e) {
+                throw new ParsingProcessException(e.getMessage());
+            } finally {
+                try {
+                    xml.close();
+                } catch (XMLStreamException e) {
+                    throw new IOException(e);
+                }
+            }
+
+            if (decoded == null) {
+                throw new ParsingProcessException("The 'properties' node is missing");
+            }
+
+            // In the end, any property which was not read must be optional
+            for (Property property : instance.getPropertiesView()) {
+                if (!decoded.contains(property.getKey()) && !property.isOptional()) {
+                    throw new MissingConfigurationPropertyException(property);
+                }
+            }
+
+        }
+
+        /**
+         * This method generate an intermediate object representation of the configuration from the file
+         *
+         * @param instance The configuration instance
+         * @return The stream over the configuration file, closing it also closes the file
+         * @throws IOException             If something goes wrong during the process
+         * @throws ParsingProcessException If a parsing exception of some sort has occurred.
+         */
+        @Override
+        public XMLStreamReader fromFile(Configuration instance) throws IOException, ParsingProcessException {
+
+            // The parser detects the declared encoding by itself
+            InputStream is = Handler.Input.open(instance).stream();
+
+            try {
+
+                return new StreamReaderDelegate(Handler.Factory.XML_INPUT.createXMLStreamReader(is)) {
+                    @Override
+                    public void close() throws XMLStreamException {
                         try {
-                            String[] strings = new String[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
-                                strings[i] = values.get(i).getTextContent();
+                            super.close();
+                        } finally {
+                            try {
+                                is.close();
+                            } catch (IOException e) {
+                                throw new XMLStreamException(e);
                             }
-                            property.setValue(strings);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as string array: " + e.getMessage(), property);
                         }
-                        break;
-                    case ARR_CHAR:
-                        try {
-                            char[] characters = new char[values.size()];
-                            for (int i = 0; i < values.size(); ++i) {
+                    }
+                };
 
-                                if (values.get(i).getTextContent().length() > 1) {
-                                    throw new IllegalArgumentException("One of the values cannot be decoded as char");
-                                }
+            } catch (XMLStreamException e) {
+                is.close();
+                throw new ParsingProcessException(e.getMessage());
+            }
+        }
 
-                                characters[i] = values.get(i).getTextContent().charAt(0);
-                            }
-                            property.setValue(characters);
-                        } catch (Exception e) {
-                            throw new MalformedConfigurationPropertyException("The value cannot be decoded as chars array: " + e.getMessage(), property);
+        /**
+         * This method decode the property element the stream is currently pointing to
+         *
+         * @param property The property instance
+         * @param xml      The stream pointing to the property element
+         */
+        @Override
+        public void decode(Property property, XMLStreamReader xml) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, ParsingProcessException {
+
+            try {
+
+                // The declared value tells us what we are expecting to read
+                if (property.getValue().isArray()) {
+                    __decode_array(property, xml);
+                } else {
+                    __decode_obj(property, xml);
+                }
+
+            } catch (XMLStreamException e) {
+                throw new ParsingProcessException(e.getMessage());
+            }
+
+        }
+
+        /**
+         * This method decode object-only property
+         *
+         * @param property The property instance
+         * @param obj      The stream pointing to the property element
+         */
+        @Override
+        public void __decode_obj(Property property, XMLStreamReader obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, XMLStreamException {
+
+            String value = null;
+
+            // Reading until the property element is closed
+            while (obj.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if (value == null && obj.getLocalName().equals("value")) {
+                    value = obj.getElementText();
+                } else {
+                    __skip(obj);
+                }
+            }
+
+            if (value == null) {
+                throw new MalformedConfigurationPropertyException("The 'value' node is missing", property);
+            }
+
+            // Setting value
+            Handler.Internal.__decode_value(property, value);
+
+            // Final check
+            if (!property.isValid()) {
+                throw new InvalidConfigurationPropertyException("The validation test failed", property);
+            }
+
+        }
+
+        /**
+         * This method decode array-only property
+         *
+         * @param property The property instance
+         * @param obj      The stream pointing to the property element
+         */
+        @Override
+        public void __decode_array(Property property, XMLStreamReader obj) throws MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, XMLStreamException {
+
+            List<String> values = null;
+
+            // Reading until the property element is closed
+            while (obj.nextTag() == XMLStreamConstants.START_ELEMENT) {
+
+                if (values == null && obj.getLocalName().equals("values")) {
+
+                    values = new ArrayList<>();
+
+                    // Reading until the values element is closed
+                    while (obj.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                        if (obj.getLocalName().equals("value")) {
+                            values.add(obj.getElementText());
+                        } else {
+                            __skip(obj);
                         }
-                        break;
+                    }
+
+                } else {
+                    __skip(obj);
                 }
 
-                // Final check
-                if (!property.isValid()) {
-                    throw new InvalidConfigurationPropertyException("The validation test failed", property);
+            }
+
+            if (values == null) {
+                throw new MalformedConfigurationPropertyException("The 'values' node is missing", property);
+            }
+
+            // Setting values, if it's empty we are just assigning empty arrays
+            Handler.Internal.__decode_values(property, values);
+
+            // Final check
+            if (!property.isValid()) {
+                throw new InvalidConfigurationPropertyException("The validation test failed", property);
+            }
+
+        }
+
+        /**
+         * This method decode every property element inside the "properties" node as they are read
+         *
+         * @param instance The configuration instance
+         * @param xml      The stream pointing to the "properties" element
+         * @return The keys of the decoded properties
+         */
+        private Set<String> __decode_properties(Configuration instance, XMLStreamReader xml) throws XMLStreamException, UnknownConfigurationPropertyException, DuplicatedConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, ParsingProcessException {
+
+            Set<String> decoded = new HashSet<>();
+
+            int read = 0;
+            int expected = instance.size();
+
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+
+                if (++read > expected)
+                    throw new UnknownConfigurationPropertyException();
+
+                String key = xml.getLocalName();
+
+                // This key does not match any property inside the configuration
+                if (!instance.contains(key))
+                    throw new UnknownConfigurationPropertyException();
+
+                Property property = instance.get(key);
+
+                // This means there is another property with the same key definition
+                if (!decoded.add(key))
+                    throw new DuplicatedConfigurationPropertyException(property);
+
+                // Decoding straight into the property
+                decode(property, xml);
+            }
+
+            return decoded;
+        }
+
+        /**
+         * This method skip the element the stream is currently pointing to, including all its children
+         *
+         * @param xml The stream
+         */
+        private static void __skip(XMLStreamReader xml) throws XMLStreamException {
+
+            int depth = 1;
+
+            while (depth > 0) {
+
+                int event = xml.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    ++depth;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    --depth;
                 }
 
             }
@@ -10,17 +10,13 @@ import org.tinyconfiguration.imp.basic.ex.configuration.InvalidConfigurationVers
 import org.tinyconfiguration.imp.basic.ex.configuration.MissingConfigurationIdentifiersException;
 import org.tinyconfiguration.imp.basic.ex.io.ParsingProcessException;
 import org.tinyconfiguration.imp.basic.ex.property.*;
-import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.events.Event;
 
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.Future;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.Executor;
 
 /**
  * The {@link HandlerYAML} class contains the implementations of I/O operations as YAML format which can be executed on any {@link Configuration} instance
@@ -59,10 +55,11 @@ public final class HandlerYAML {
          * Write the configuration file asynchronously
          *
          * @param instance The configuration instance to write
+         * @param executor The executor running the writing task
          * @return Future object representing the writing task
          */
         @Override
-        public Future<Void> writeAsync(Configuration instance) {
+        public CompletableFuture<Void> writeAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     write(instance);
@@ -70,31 +67,39 @@ public final class HandlerYAML {
                     throw new CompletionException(e);
                 }
                 return null;
-            });
+            }, executor);
+        }
+
+        /**
+         * Write the configuration file only if its content changed
+         *
+         * @param instance The configuration instance to write
+         * @return True if the file was written, false if it already had the same content
+         * @throws IOException If an I/O exception of some sort has occurred.
+         */
+        @Override
+        public boolean writeIfChanged(Configuration instance) throws IOException {
+            return __to_file(instance, true);
         }
 
         /**
          * This method allow to insert a property object inside an intermediate representation
          *
+         * @param root     The property container
          * @param property The property instance
-         * @return The new representation
          */
         @Override
-        public Map<String, Object> encode(Property property) {
+        public void encode(Map<String, Object> root, Property property) {
 
             // Acquiring value
             Value dt = property.getValue();
 
-            // Creating container
-            Map<String, Object> map = new LinkedHashMap<>();
-
             // Encoding
             if (dt.isArray())
-                __encode_array(map, property);
+                __encode_array(root, property);
             else
-                __encode_obj(map, property);
+                __encode_obj(root, property);
 
-            return map;
         }
 
         /**
@@ -115,19 +120,20 @@ public final class HandlerYAML {
             data.put("version", instance.getVersion());
 
             // Encoding
-            for (Property property : instance.getProperties()) {
-                properties.add(encode(property));
+            for (Property property : instance.getPropertiesView()) {
+                // Creating container
+                Map<String, Object> map = new LinkedHashMap<>();
+                // Encoding
+                encode(map, property);
+                // Inserting
+                properties.add(map);
             }
 
             // Saving properties
             data.put("properties", properties);
 
-            // Setting output
-            DumperOptions options = new DumperOptions();
-            options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-
-            // Creating writer
-            Yaml writer = new Yaml(options);
+            // Acquiring writer, output is already set
+            Yaml writer = Handler.Factory.__yaml();
 
             // Dumping
             String representation = writer.dump(data);
@@ -146,12 +152,28 @@ public final class HandlerYAML {
          */
         @Override
         public void toFile(Configuration instance) throws IOException {
+            __to_file(instance, false);
+        }
 
-            try (BufferedWriter bw = new BufferedWriter(new FileWriter(instance.getFile()))) {
-                // Writing
-                bw.write(toObject(instance));
-                // Flushing
-                bw.flush();
+        /**
+         * This method allow to generate a file, replacing the previous one only if requested and its content changed
+         *
+         * @param instance The configuration instance
+         * @param compare  True if the previous file should be kept when the content is the same
+         * @return True if the file was replaced, otherwise false
+         * @throws IOException If something goes wrong during the process
+         */
+        private boolean __to_file(Configuration instance, boolean compare) throws IOException {
+
+            try (Handler.Output out = Handler.Output.open(instance, compare)) {
+
+                try (Writer bw = out.writer()) {
+                    // Writing
+                    bw.write(toObject(instance));
+                }
+
+                // Replacing the file as a whole
+                return out.commit();
             }
 
         }
@@ -169,32 +191,34 @@ public final class HandlerYAML {
             Value dt = property.getValue();
 
             // Encoding
-            if (dt.isText()) {
-
-                root.put(property.getKey(), dt.asString());
-
-            } else if (dt.isNumeric()) {
-
-                if (dt.isByte()) {
+            switch (dt.getDatatype()) {
+                case STRING:
+                case CHAR:
+                    root.put(property.getKey(), dt.asString());
+                    break;
+                case BYTE:
                     root.put(property.getKey(), dt.asByte());
-                } else if (dt.isShort()) {
+                    break;
+                case SHORT:
                     root.put(property.getKey(), dt.asShort());
-                } else if (dt.isInteger()) {
+                    break;
+                case INT:
                     root.put(property.getKey(), dt.asInt());
-                } else if (dt.isLong()) {
+                    break;
+                case LONG:
                     root.put(property.getKey(), dt.asLong());
-                } else if (dt.isFloat()) {
+                    break;
+                case FLOAT:
                     root.put(property.getKey(), dt.asFloat());
-                } else if (dt.isDouble()) {
+                    break;
+                case DOUBLE:
                     root.put(property.getKey(), dt.asDouble());
-                } else {
+                    break;
+                case BOOLEAN:
+                    root.put(property.getKey(), dt.asBoolean());
+                    break;
+                default:
                     throw new IllegalStateException("Unknown datatype");
-                }
-
-            } else if (dt.isBoolean()) {
-                root.put(property.getKey(), dt.asBoolean());
-            } else {
-                throw new IllegalStateException("Unknown datatype");
             }
 
             // Inserting description
@@ -214,63 +238,36 @@ public final class HandlerYAML {
             // Acquiring value
             Value dt = property.getValue();
 
-            if (dt.isNumericArray()) {
-
-                if (dt.isByteArray()) {
-
-                    byte[] tmp = dt.asByteArray();
-
-                    root.put(property.getKey(), tmp);
-
-                } else if (dt.isShortArray()) {
-
-                    short[] tmp = dt.asShortArray();
-
-                    root.put(property.getKey(), tmp);
-
-                } else if (dt.isIntegerArray()) {
-
-                    int[] tmp = dt.asIntArray();
-
-                    root.put(property.getKey(), tmp);
-
-                } else if (dt.isLongArray()) {
-
-                    long[] tmp = dt.asLongArray();
-
-                    root.put(property.getKey(), tmp);
-
-                } else if (dt.isFloatArray()) {
-
-                    float[] tmp = dt.asFloatArray();
-
-                    root.put(property.getKey(), tmp);
-
-                } else if (dt.isDoubleArray()) {
-
-                    double[] tmp = dt.asDoubleArray();
-
-                    root.put(property.getKey(), tmp);
-
-                }
-
-            } else if (dt.isTextArray()) {
-
-                String[] tmp = dt.asStringArray();
-
-                root.put(property.getKey(), tmp);
-
-            } else if (dt.isBooleanArray()) {
-
-                boolean[] tmp = dt.asBooleanArray();
-
-                root.put(property.getKey(), tmp);
-
-            } else {
-                throw new IllegalStateException("Unknown datatype");
+            switch (dt.getDatatype()) {
+                case ARR_BYTE:
+                    root.put(property.getKey(), dt.asByteArray());
+                    break;
+                case ARR_SHORT:
+                    root.put(property.getKey(), dt.asShortArray());
+                    break;
+                case ARR_INT:
+                    root.put(property.getKey(), dt.asIntArray());
+                    break;
+                case ARR_LONG:
+                    root.put(property.getKey(), dt.asLongArray());
+                    break;
+                case ARR_FLOAT:
+                    root.put(property.getKey(), dt.asFloatArray());
+                    break;
+                case ARR_DOUBLE:
+                    root.put(property.getKey(), dt.asDoubleArray());
+                    break;
+                case ARR_STRING:
+                case ARR_CHAR:
+                    root.put(property.getKey(), dt.asStringArray());
+                    break;
+                case ARR_BOOLEAN:
+                    root.put(property.getKey(), dt.asBooleanArray());
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown datatype");
             }
 
-
             // Inserting description
             root.put("description", property.getDescription());
         }
@@ -284,9 +281,6 @@ public final class HandlerYAML {
      */
     public static final class ImplReaderYAML implements AbstractReader<Configuration, Property, Map<String, Object>> {
 
-        private Map<String, Map<String, Object>> properties;
-
-
         /**
          * Reads the configuration file
          *
@@ -301,10 +295,11 @@ public final class HandlerYAML {
          * Reads the configuration file asynchronously
          *
          * @param instance The configuration instance to read
+         * @param executor The executor running the reading task
          * @return Future object representing the reading task
          */
         @Override
-        public Future<Void> readAsync(Configuration instance) {
+        public CompletableFuture<Void> readAsync(Configuration instance, Executor executor) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     read(instance);
@@ -314,20 +309,19 @@ public final class HandlerYAML {
                 } catch (Exception ignored) {
                 }
                 return null;
-            });
+            }, executor);
         }
 
         /**
          * This method allow to translate a property object inside an intermediate representation
          *
          * @param property The property instance
+         * @param root     The property container or null if it was not found
          */
         @Override
-        public void decode(Property property) throws MissingConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, ParsingProcessException {
+        public void decode(Property property, Map<String, Object> root) throws MissingConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, ParsingProcessException {
 
-            if (properties.containsKey(property.getKey())) {
-
-                Map<String, Object> root = properties.get(property.getKey());
+            if (root != null) {
 
                 // Acquiring value
                 Value dt = property.getValue();
@@ -353,23 +347,21 @@ public final class HandlerYAML {
         @Override
         public void toObject(Configuration instance) throws IOException, MissingConfigurationIdentifiersException, InvalidConfigurationNameException, InvalidConfigurationVersionException, ParsingProcessException, UnknownConfigurationPropertyException, MissingConfigurationPropertyException, MalformedConfigurationPropertyException, InvalidConfigurationPropertyException, DuplicatedConfigurationPropertyException {
 
-            // Acquiring intermediate representation
-            ArrayDeque<Event> graph = fromFile(instance);
+            Map<String, Map<String, Object>> properties;
 
-            // Decoding header
-            Handler.Internal.YAML.__decode_header(instance, graph);
+            // Acquiring intermediate representation, events are pulled as they are needed
+            try (Handler.Internal.YAML.Events graph = fromFile(instance)) {
 
-            int read = Handler.Internal.YAML.__evaluate_properties(graph);
-            int expected = instance.getProperties().size();
+                // Decoding header
+                Handler.Internal.YAML.__decode_header(instance, graph);
 
-            if (read > expected)
-                throw new UnknownConfigurationPropertyException();
+                // This cannot work as always, we have to call internal implementation
+                properties = Handler.Internal.YAML.__decode_properties(instance, graph);
 
-            // This cannot work as always, we have to call internal implementation
-            this.properties = Handler.Internal.YAML.__decode_properties(instance, graph);
+            }
 
-            for (Property property : instance.getProperties()) {
-                decode(property);
+            for (Property property : instance.getPropertiesView()) {
+                decode(property, properties.get(property.getKey()));
             }
 
         }
@@ -378,24 +370,13 @@ public final class HandlerYAML {
          * This method generate an intermediate object representation of the configuration from the file
          *
          * @param instance The configuration instance
+         * @return The events stream over the configuration file
          * @throws IOException If something goes wrong during the process
          */
         @Override
-        public ArrayDeque<Event> fromFile(Configuration instance) throws IOException {
-
-            Yaml reader = new Yaml();
-
-            ArrayDeque<Event> events;
-
-            try (BufferedReader br = new BufferedReader(new FileReader(instance.getFile()))) {
-                // Acquiring all nodes
-                Iterable<Event> iterator = reader.parse(br);
-                // Creating a simple stream
-                events = StreamSupport.stream(iterator.spliterator(), false).
-                        collect(Collectors.toCollection(ArrayDeque::new));
-            }
-
-            return events;
+        public Handler.Internal.YAML.Events fromFile(Configuration instance) throws IOException {
+            // The caller is in charge of closing the events stream
+            return new Handler.Internal.YAML.Events(Handler.Input.open(instance).reader());
         }
 
         /**
@@ -438,8 +419,6 @@ public final class HandlerYAML {
         @Override
         public void __decode_array(Property property, Map<String, Object> obj) throws InvalidConfigurationPropertyException, MalformedConfigurationPropertyException, ParsingProcessException {
 
-            Value value = property.getValue();
-
             List<String> values;
 
             try {
@@ -448,113 +427,13 @@ public final class HandlerYAML {
                 throw new ParsingProcessException("The array could not be decoded as list");
             }
 
-            switch (value.getDatatype()) {
-                case ARR_BOOLEAN:
-                    try {
-                        boolean[] booleans = new boolean[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            booleans[i] = Boolean.parseBoolean(values.get(i));
-                        }
-                        property.setValue(booleans);
-                    } catch (Exception e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as boolean array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_BYTE:
-                    try {
-                        byte[] bytes = new byte[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            bytes[i] = Byte.parseByte(values.get(i));
-                        }
-                        property.setValue(bytes);
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as byte array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_SHORT:
-                    try {
-                        short[] shorts = new short[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            shorts[i] = Short.parseShort(values.get(i));
-                        }
-                        property.setValue(shorts);
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as short array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_INT:
-                    try {
-                        int[] integers = new int[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            integers[i] = Integer.parseInt(values.get(i));
-                        }
-                        property.setValue(integers);
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as int array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_LONG:
-                    try {
-                        long[] longs = new long[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            longs[i] = Long.parseLong(values.get(i));
-                        }
-                        property.setValue(longs);
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as long array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_FLOAT:
-                    try {
-                        float[] floats = new float[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            floats[i] = Float.parseFloat(values.get(i));
-                        }
-                        property.setValue(floats);
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as float array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_DOUBLE:
-                    try {
-                        double[] doubles = new double[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            doubles[i] = Double.parseDouble(values.get(i));
-                        }
-                        property.setValue(doubles);
-                    } catch (NumberFormatException e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as double array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_STRING:
-                    try {
-                        String[] strings = new String[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-                            strings[i] = values.get(i);
-                        }
-                        property.setValue(strings);
-                    } catch (Exception e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as string array: " + e.getMessage(), property);
-                    }
-                    break;
-                case ARR_CHAR:
-                    try {
-                        char[] characters = new char[values.size()];
-                        for (int i = 0; i < values.size(); ++i) {
-
-                            if (values.get(i).length() > 1) {
-                                throw new IllegalArgumentException("One of the values cannot be decoded as char");
-                            }
-
-                            characters[i] = values.get(i).charAt(0);
-                        }
-                        property.setValue(characters);
-                    } catch (Exception e) {
-                        throw new MalformedConfigurationPropertyException("The value cannot be decoded as chars array: " + e.getMessage(), property);
-                    }
-                    break;
+            if (values == null) {
+                throw new MalformedConfigurationPropertyException("The 'values' node is missing", property);
             }
 
+            // Setting values
+            Handler.Internal.__decode_values(property, values);
+
             // Final check
             if (!property.isValid()) {
                 throw new InvalidConfigurationPropertyException("The validation test failed", property);
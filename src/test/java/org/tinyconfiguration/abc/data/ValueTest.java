@@ -0,0 +1,100 @@
+package org.tinyconfiguration.abc.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.tinyconfiguration.abc.data.Datatype.*;
+
+class ValueTest {
+
+    @Test
+    void getDatatype() {
+
+        // Scalars
+        assertEquals(STRING, new Value("EN").getDatatype());
+        assertEquals(STRING, new Value(new StringBuilder("EN")).getDatatype());
+        assertEquals(CHAR, new Value('M').getDatatype());
+        assertEquals(BOOLEAN, new Value(true).getDatatype());
+        assertEquals(BYTE, new Value((byte) 1).getDatatype());
+        assertEquals(SHORT, new Value((short) 1).getDatatype());
+        assertEquals(INT, new Value(1).getDatatype());
+        assertEquals(LONG, new Value(1L).getDatatype());
+        assertEquals(FLOAT, new Value(1f).getDatatype());
+        assertEquals(DOUBLE, new Value(1d).getDatatype());
+        assertEquals(UNKNOWN, new Value(new Object()).getDatatype());
+
+        // Arrays
+        assertEquals(ARR_STRING, new Value(new String[]{"EN"}).getDatatype());
+        assertEquals(ARR_CHAR, new Value(new char[]{'M'}).getDatatype());
+        assertEquals(ARR_BOOLEAN, new Value(new boolean[]{true}).getDatatype());
+        assertEquals(ARR_INT, new Value(new int[]{1}).getDatatype());
+        assertEquals(ARR_INT, new Value(new Integer[]{1}).getDatatype());
+        assertEquals(ARR_DOUBLE, new Value(new double[]{1d}).getDatatype());
+        assertEquals(ARR_UNKNOWN, new Value(new Object[]{1}).getDatatype());
+
+    }
+
+    @Test
+    void is() {
+
+        Value i = new Value(1);
+
+        assertTrue(i.isInteger());
+        assertTrue(i.isNumeric());
+        assertFalse(i.isArray());
+        assertFalse(i.isText());
+        assertFalse(i.isLong());
+
+        Value c = new Value(new char[]{'a', 'b'});
+
+        assertTrue(c.isArray());
+        assertTrue(c.isCharacterArray());
+        assertTrue(c.isTextArray());
+        assertFalse(c.isNumericArray());
+        assertFalse(c.isCharacter());
+
+        assertTrue(new Value(new Object[0]).isArray());
+
+    }
+
+    @Test
+    void asString() {
+
+        assertEquals("EN", new Value("EN").asString());
+        assertEquals("M", new Value('M').asString());
+        assertEquals("1.5", new Value(1.5f).asString());
+        assertEquals("[1, 2]", new Value(new long[]{1, 2}).asString());
+        assertEquals("[1, 2]", new Value(new Long[]{1L, 2L}).asString());
+        assertNull(new Value(new Object()).asString());
+
+        assertArrayEquals(new String[]{"true", "false"}, new Value(new boolean[]{true, false}).asStringArray());
+        assertArrayEquals(new String[]{"42"}, new Value(42).asStringArray());
+
+    }
+
+    @Test
+    void primitives() {
+
+        Value i = new IntValue(42);
+
+        // Same surface as the boxed value
+        assertEquals(INT, i.getDatatype());
+        assertEquals(Integer.class, i.getType());
+        assertTrue(i.isInteger());
+        assertTrue(i.isNumeric());
+        assertFalse(i.isArray());
+        assertEquals(42, i.asInt());
+        assertEquals("42", i.asString());
+        assertArrayEquals(new String[]{"42"}, i.asStringArray());
+
+        assertEquals(new Value(true).getDatatype(), new BooleanValue(true).getDatatype());
+        assertEquals(new Value('M').getType(), new CharValue('M').getType());
+        assertEquals(new Value(1.5d).asString(), new DoubleValue(1.5d).asString());
+        assertEquals(Long.MAX_VALUE, new LongValue(Long.MAX_VALUE).asLong());
+        assertEquals((byte) -1, new ByteValue((byte) -1).asByte());
+        assertEquals((short) 7, new ShortValue((short) 7).asShort());
+        assertEquals(0.25f, new FloatValue(0.25f).asFloat());
+
+    }
+
+}
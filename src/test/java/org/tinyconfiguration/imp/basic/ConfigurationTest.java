@@ -1,8 +1,22 @@
 package org.tinyconfiguration.imp.basic;
 
 import org.junit.jupiter.api.Test;
-
+import org.tinyconfiguration.abc.data.Value;
+import org.tinyconfiguration.abc.utils.FormatType;
+import org.tinyconfiguration.abc.utils.IOExecutors;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -132,4 +146,343 @@ class ConfigurationTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void setValue() {
+
+        Property p = this.instance.get("auto-update");
+
+        // Primitive values are stored unboxed
+        p.setValue(false);
+
+        assertFalse(p.getValue().asBoolean());
+        assertEquals(Boolean.class, p.getValue().getType());
+
+        // The declared class cannot change
+        assertThrows(IllegalArgumentException.class, () -> p.setValue(1));
+        assertThrows(IllegalArgumentException.class, () -> p.setValue("false"));
+
+    }
+
+    @Test
+    void setValueInPlace() {
+
+        Property p = new Property.Builder().
+                setKey("threshold").
+                setValue(10).
+                setInPlace(true).
+                setDescription("Sets the requests threshold").
+                build();
+
+        Value v = p.getValue();
+
+        assertTrue(v.isMutable());
+
+        // The stored value is updated, not replaced
+        p.setValue(20);
+
+        assertSame(v, p.getValue());
+        assertEquals(20, v.asInt());
+
+        // The declared class cannot change
+        assertThrows(IllegalArgumentException.class, () -> p.setValue(20L));
+
+        // By default a new value is stored on each update
+        Property q = new Property.Builder().
+                setKey("threshold").
+                setValue(10).
+                setDescription("Sets the requests threshold").
+                build();
+
+        Value w = q.getValue();
+
+        q.setValue(20);
+
+        assertFalse(w.isMutable());
+        assertNotSame(w, q.getValue());
+        assertEquals(10, w.asInt());
+
+    }
+
+    @Test
+    void snapshot() {
+
+        Configuration.Snapshot first = this.instance.snapshot();
+
+        assertEquals("ConfigurationTest", first.getName());
+        assertEquals("EN", first.get("language").asString());
+        assertEquals(this.instance.getProperties().size(), first.getValues().size());
+
+        // Nothing changed
+        assertSame(first, this.instance.snapshot());
+
+        // Updating one value
+        this.instance.get("language").setValue("IT");
+
+        Configuration.Snapshot second = this.instance.snapshot();
+
+        assertNotSame(first, second);
+        assertEquals("EN", first.get("language").asString());
+        assertEquals("IT", second.get("language").asString());
+
+        // Unchanged values are shared
+        assertSame(first.get("user"), second.get("user"));
+
+        // Snapshots cannot be modified
+        assertThrows(UnsupportedOperationException.class, () -> second.getValues().clear());
+        assertThrows(NoSuchElementException.class, () -> second.get("unknown"));
+
+    }
+
+    @Test
+    void snapshotInPlace() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration.json").
+                put(new Property.Builder().
+                        setKey("threshold").
+                        setValue(10).
+                        setInPlace(true).
+                        setDescription("Sets the requests threshold").
+                        build()).
+                build();
+
+        Configuration.Snapshot first = cfg.snapshot();
+
+        // The value updated in place does not leak inside the snapshot
+        cfg.get("threshold").setValue(20);
+
+        assertEquals(10, first.get("threshold").asInt());
+        assertEquals(20, cfg.snapshot().get("threshold").asInt());
+
+    }
+
+    @Test
+    void listeners() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-listeners.json").
+                put(new Property.Builder().
+                        setKey("language").
+                        setValue("EN").
+                        setDescription("Specifies the language environment for the session").
+                        build()).
+                put(new Property.Builder().
+                        setKey("ports").
+                        setValue(new int[]{80, 443}).
+                        setDescription("Sets the ports the application listens on").
+                        build()).
+                build();
+
+        List<List<PropertyChange>> batches = new ArrayList<>();
+        List<PropertyChange> ports = new ArrayList<>();
+
+        cfg.addListener((instance, changes) -> batches.add(changes));
+        cfg.get("ports").addListener(ports::add);
+
+        try {
+
+            assertDoesNotThrow(() -> cfg.write(FormatType.JSON));
+
+            // Equal arrays are not a change
+            cfg.get("ports").setValue(new int[]{80, 443});
+            assertDoesNotThrow(() -> cfg.read(FormatType.JSON));
+
+            assertTrue(batches.isEmpty());
+            assertTrue(ports.isEmpty());
+
+            // Both values changed in memory, one batch for the whole reading
+            cfg.get("language").setValue("IT");
+            cfg.get("ports").setValue(new int[]{8080});
+            assertDoesNotThrow(() -> cfg.read(FormatType.JSON));
+
+            assertEquals(1, batches.size());
+            assertEquals(2, batches.get(0).size());
+            assertEquals("language", batches.get(0).get(0).getKey());
+            assertEquals("IT", batches.get(0).get(0).getPrevious().asString());
+            assertEquals("EN", batches.get(0).get(0).getCurrent().asString());
+
+            assertEquals(1, ports.size());
+            assertArrayEquals(new int[]{80, 443}, ports.get(0).getCurrent().asIntArray());
+
+            // A failing listener does not stop the others, nor fails the reading
+            List<Throwable> failures = new ArrayList<>();
+            Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> failures.add(e));
+
+            cfg.addListener((instance, changes) -> {
+                throw new IllegalStateException();
+            });
+            cfg.get("language").setValue("IT");
+
+            assertDoesNotThrow(() -> cfg.read(FormatType.JSON));
+            assertEquals(2, batches.size());
+            assertEquals("EN", cfg.get("language").getValue().asString());
+
+            assertEquals(1, failures.size());
+            assertTrue(failures.get(0) instanceof IllegalStateException);
+
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(null);
+            if (cfg.exist())
+                assertDoesNotThrow(cfg::delete);
+        }
+
+    }
+
+    @Test
+    void writeAsyncCoalesced() throws IOException {
+
+        Path directory = Files.createTempDirectory("tiny-configuration-coalesced");
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname(directory.toString()).
+                setFilename("tiny-configuration.json").
+                setWriteWindow(Duration.ofMillis(200)).
+                put(new Property.Builder().
+                        setKey("counter").
+                        setValue(0).
+                        setDescription("Counts the requests").
+                        build()).
+                build();
+
+        // Counting the writing tasks
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = r -> {
+            tasks.incrementAndGet();
+            IOExecutors.common().execute(r);
+        };
+
+        try {
+
+            List<CompletableFuture<Void>> requests = new ArrayList<>();
+
+            for (int i = 1; i <= 10; i++) {
+                cfg.get("counter").setValue(i);
+                requests.add(cfg.writeAsync(FormatType.JSON, executor));
+            }
+
+            assertDoesNotThrow(() -> CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS));
+
+            // One task wrote the latest value for every request
+            assertEquals(1, tasks.get());
+
+            cfg.get("counter").setValue(0);
+            assertDoesNotThrow(() -> cfg.read(FormatType.JSON));
+            assertEquals(10, cfg.get("counter").getValue().asInt());
+
+            // Negative windows are not allowed
+            assertThrows(IllegalArgumentException.class, () -> new Configuration.Builder().setWriteWindow(Duration.ofMillis(-1)));
+
+        } finally {
+            Files.deleteIfExists(cfg.getFile().toPath());
+            Files.deleteIfExists(directory);
+        }
+
+    }
+
+    @Test
+    void getPropertiesView() {
+
+        Collection<Property> view = this.instance.getPropertiesView();
+
+        assertEquals(this.instance.getProperties(), new ArrayList<>(view));
+        assertEquals(view.size(), this.instance.size());
+
+        // The view cannot be modified
+        assertThrows(UnsupportedOperationException.class, view::clear);
+
+        // Iterating without copying
+        List<String> keys = new ArrayList<>();
+
+        this.instance.forEachProperty(property -> keys.add(property.getKey()));
+
+        assertEquals(this.instance.size(), keys.size());
+        assertEquals("language", keys.get(0));
+
+        assertThrows(NullPointerException.class, () -> this.instance.forEachProperty(null));
+
+        // Nothing left
+        this.instance.clear();
+
+        assertEquals(0, this.instance.size());
+
+    }
+
+    @Test
+    void key() {
+
+        PropertyKey key = this.instance.key("user");
+
+        assertEquals("user", key.getKey());
+        assertSame(this.instance.get("user"), this.instance.lookup(key));
+
+        // Same checks of the string lookup
+        assertThrows(NullPointerException.class, () -> this.instance.key(null));
+        assertThrows(IllegalArgumentException.class, () -> this.instance.key(" "));
+        assertThrows(NoSuchElementException.class, () -> this.instance.key("unknown"));
+        assertThrows(NullPointerException.class, () -> this.instance.lookup(null));
+
+        // Keys resolved on another configuration are rejected
+        Configuration other = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration.json").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                build();
+
+        assertThrows(NoSuchElementException.class, () -> other.lookup(key));
+
+        // Keys resolved before clearing are no longer valid
+        this.instance.clear();
+
+        assertThrows(NoSuchElementException.class, () -> this.instance.lookup(key));
+
+    }
+
+    @Test
+    void handles() {
+
+        IntHandle reminder = this.instance.intHandle("auto-update-reminder");
+        BooleanHandle update = this.instance.booleanHandle("auto-update");
+        StringHandle language = this.instance.stringHandle("language");
+
+        assertEquals(5, reminder.get());
+        assertTrue(update.get());
+        assertEquals("EN", language.get());
+
+        // Always the latest value
+        this.instance.get("auto-update-reminder").setValue(10);
+        this.instance.get("language").setValue("IT");
+
+        assertEquals(10, reminder.get());
+        assertEquals("IT", language.get());
+        assertSame(this.instance.get("auto-update"), update.getProperty());
+
+        // The value read last is replaced
+        CharHandle sex = this.instance.charHandle("sex");
+
+        assertEquals('M', sex.get());
+        this.instance.get("sex").setValue('F');
+        assertEquals('F', sex.get());
+
+        // The declared datatype must match
+        assertThrows(IllegalArgumentException.class, () -> this.instance.floatHandle("auto-update-reminder"));
+        assertThrows(IllegalArgumentException.class, () -> this.instance.longHandle("auto-update-reminder"));
+        assertThrows(IllegalArgumentException.class, () -> this.instance.doubleHandle("language"));
+        assertThrows(NoSuchElementException.class, () -> this.instance.intHandle("unknown"));
+
+    }
+
+}
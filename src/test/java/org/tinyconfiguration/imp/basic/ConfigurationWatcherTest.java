@@ -0,0 +1,204 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.tinyconfiguration.abc.utils.FormatType.JSON;
+
+class ConfigurationWatcherTest {
+
+    private static Configuration create(Path directory, String language) {
+
+        Configuration.Builder b = new Configuration.Builder().
+                setName("ConfigurationWatcherTest").
+                setVersion("1.0.0").
+                setPathname(directory.toString()).
+                setFilename("tiny-configuration-watched.json");
+
+        b.put(new Property.Builder().
+                setKey("language").
+                setValue(language).
+                setDescription("Specifies the language environment for the session").
+                build());
+
+        b.put(new Property.Builder().
+                setKey("user").
+                setValue("root").
+                setDescription("Sets the username required to open the application's database").
+                build());
+
+        return b.build();
+    }
+
+    @Test
+    void reload() throws IOException {
+
+        Path directory = Files.createTempDirectory("tiny-configuration-watcher");
+
+        Configuration watched = create(directory, "EN");
+        Configuration writer = create(directory, "IT");
+
+        try (ConfigurationWatcher watcher = new ConfigurationWatcher(Runnable::run, Duration.ofMillis(50))) {
+
+            assertDoesNotThrow(() -> watched.write(JSON));
+
+            CompletableFuture<List<PropertyChange>> reloaded = new CompletableFuture<>();
+
+            watcher.addListener(new ConfigurationWatcher.Listener() {
+                @Override
+                public void onReload(Configuration instance, List<PropertyChange> changes) {
+                    // The first events could come from the initial write
+                    if (!changes.isEmpty())
+                        reloaded.complete(changes);
+                }
+
+                @Override
+                public void onFailure(Configuration instance, Exception e) {
+                    // Half-written file, the next event reloads it again
+                }
+            });
+
+            watcher.register(watched, JSON);
+
+            // Changing the file on disk
+            assertDoesNotThrow(() -> writer.write(JSON));
+
+            List<PropertyChange> changes = assertDoesNotThrow(() -> reloaded.get(30, TimeUnit.SECONDS));
+
+            // Only the language changed
+            assertEquals(1, changes.size());
+            assertSame(watched.get("language"), changes.get(0).getProperty());
+            assertEquals("EN", changes.get(0).getPrevious().asString());
+            assertEquals("IT", watched.get("language").getValue().asString());
+
+            assertTrue(watcher.unregister(watched));
+            assertFalse(watcher.unregister(watched));
+
+        } finally {
+            Files.deleteIfExists(watched.getFile().toPath());
+            Files.deleteIfExists(directory);
+        }
+
+    }
+
+    @Test
+    void reloadRejected() throws IOException {
+
+        Path directory = Files.createTempDirectory("tiny-configuration-watcher");
+
+        Configuration watched = create(directory, "EN");
+        Configuration writer = create(directory, "IT");
+
+        // Only the first task is rejected
+        AtomicBoolean rejected = new AtomicBoolean();
+        Executor executor = r -> {
+            if (rejected.compareAndSet(false, true))
+                throw new RejectedExecutionException("Saturated");
+            r.run();
+        };
+
+        try (ConfigurationWatcher watcher = new ConfigurationWatcher(executor, Duration.ofMillis(50))) {
+
+            assertDoesNotThrow(() -> watched.write(JSON));
+
+            CompletableFuture<Exception> failed = new CompletableFuture<>();
+            CompletableFuture<List<PropertyChange>> reloaded = new CompletableFuture<>();
+
+            watcher.addListener(new ConfigurationWatcher.Listener() {
+                @Override
+                public void onReload(Configuration instance, List<PropertyChange> changes) {
+                    if (!changes.isEmpty())
+                        reloaded.complete(changes);
+                }
+
+                @Override
+                public void onFailure(Configuration instance, Exception e) {
+                    if (e instanceof RejectedExecutionException)
+                        failed.complete(e);
+                }
+            });
+
+            watcher.register(watched, JSON);
+
+            assertDoesNotThrow(() -> writer.write(JSON));
+            assertDoesNotThrow(() -> failed.get(30, TimeUnit.SECONDS));
+
+            // The watcher is still alive and the configuration can be reloaded again
+            writer.get("language").setValue("DE");
+            assertDoesNotThrow(() -> writer.write(JSON));
+
+            assertDoesNotThrow(() -> reloaded.get(30, TimeUnit.SECONDS));
+            assertEquals("DE", watched.get("language").getValue().asString());
+
+        } finally {
+            Files.deleteIfExists(watched.getFile().toPath());
+            Files.deleteIfExists(directory);
+        }
+
+    }
+
+    @Test
+    void reloadRecreatedDirectory() throws IOException, InterruptedException {
+
+        Path directory = Files.createTempDirectory("tiny-configuration-watcher");
+
+        Configuration watched = create(directory, "EN");
+        Configuration writer = create(directory, "IT");
+
+        try (ConfigurationWatcher watcher = new ConfigurationWatcher(Runnable::run, Duration.ofMillis(50))) {
+
+            CompletableFuture<Exception> deleted = new CompletableFuture<>();
+            CompletableFuture<List<PropertyChange>> reloaded = new CompletableFuture<>();
+
+            watcher.addListener(new ConfigurationWatcher.Listener() {
+                @Override
+                public void onReload(Configuration instance, List<PropertyChange> changes) {
+                    if (!changes.isEmpty())
+                        reloaded.complete(changes);
+                }
+
+                @Override
+                public void onFailure(Configuration instance, Exception e) {
+                    // Otherwise, half-written file, the next event reloads it again
+                    if (e instanceof NoSuchFileException)
+                        deleted.complete(e);
+                }
+            });
+
+            watcher.register(watched, JSON);
+
+            // Deleting the directory invalidates its key
+            Files.delete(directory);
+            assertDoesNotThrow(() -> deleted.get(30, TimeUnit.SECONDS));
+
+            Files.createDirectory(directory);
+            assertDoesNotThrow(() -> watched.write(JSON));
+
+            // The new directory is watched without registering again
+            Thread.sleep(500);
+
+            assertDoesNotThrow(() -> writer.write(JSON));
+
+            assertDoesNotThrow(() -> reloaded.get(30, TimeUnit.SECONDS));
+            assertEquals("IT", watched.get("language").getValue().asString());
+
+        } finally {
+            Files.deleteIfExists(watched.getFile().toPath());
+            Files.deleteIfExists(directory);
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.tinyconfiguration.imp.basic;
+
+import org.junit.jupiter.api.Test;
+import org.tinyconfiguration.abc.utils.IOExecutors;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.tinyconfiguration.abc.utils.FormatType.JSON;
+
+class ConfigurationsTest {
+
+    private static Configuration create(String filename, String language) {
+
+        Configuration.Builder b = new Configuration.Builder().
+                setName("ConfigurationsTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename(filename);
+
+        b.put(new Property.Builder().
+                setKey("language").
+                setValue(language).
+                setDescription("Specifies the language environment for the session").
+                build());
+
+        b.put(new Property.Builder().
+                setKey("ports").
+                setValue(new int[]{80, 443}).
+                setDescription("Sets the ports the application listens on").
+                build());
+
+        return b.build();
+    }
+
+    @Test
+    void readAll() {
+
+        List<Configuration> instances = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            instances.add(create("tiny-configuration-batch-" + i + ".json", "EN"));
+        }
+
+        ExecutorService pool = IOExecutors.newBounded(4);
+
+        try {
+
+            // Writing the files, then changing the values in memory
+            for (Configuration instance : instances) {
+                assertDoesNotThrow(() -> instance.write(JSON));
+                instance.get("language").setValue("IT");
+            }
+
+            // This one does not exist
+            Configuration missing = create("tiny-configuration-batch-missing.json", "EN");
+            instances.add(missing);
+
+            Configurations.Report report = Configurations.readAll(instances, JSON, pool);
+
+            // Every existing file was read back
+            assertFalse(report.isSuccessful());
+            assertEquals(8, report.getSucceeded().size());
+
+            for (Configuration instance : report.getSucceeded()) {
+                assertEquals("EN", instance.get("language").getValue().asString());
+            }
+
+            // The missing one is reported on its own
+            assertEquals(Collections.singleton(missing), report.getFailures().keySet());
+            assertTrue(report.getFailures().get(missing) instanceof FileNotFoundException);
+
+            // Timing
+            assertTrue(report.getTotalTime().compareTo(report.getTime(missing)) >= 0);
+            assertTrue(report.getSpeedup() > 0);
+            assertThrows(NoSuchElementException.class, () -> report.getTime(create("unknown.json", "EN")));
+
+        } finally {
+
+            pool.shutdown();
+
+            for (Configuration instance : instances) {
+                if (instance.exist())
+                    assertDoesNotThrow(instance::delete);
+            }
+
+        }
+
+    }
+
+    @Test
+    void readAllEmpty() {
+
+        Configurations.Report report = Configurations.readAll(Collections.emptyList(), JSON);
+
+        assertTrue(report.isSuccessful());
+        assertTrue(report.getSucceeded().isEmpty());
+
+        // Null values are not allowed
+        assertThrows(NullPointerException.class, () -> Configurations.readAll(null, JSON));
+        assertThrows(NullPointerException.class, () -> Configurations.readAll(Collections.emptyList(), null));
+        assertThrows(NullPointerException.class, () -> Configurations.readAll(Collections.singletonList(null), JSON));
+
+    }
+
+}
@@ -1,10 +1,16 @@
 package org.tinyconfiguration.imp.basic.io;
 
 import org.junit.jupiter.api.Test;
+import org.tinyconfiguration.abc.utils.IOExecutors;
 import org.tinyconfiguration.imp.basic.Configuration;
 import org.tinyconfiguration.imp.basic.Property;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.tinyconfiguration.abc.utils.FormatType.CSV;
@@ -113,6 +119,122 @@ public class CsvTest {
 
     }
 
+    @Test
+    void readQuotedCSV() {
+
+        Configuration.Builder b = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-quoted.csv");
+
+        for (int i = 0; i < 10; i++) {
+            Property.Builder p = new Property.Builder().
+                    setKey("property-" + i).
+                    setDescription("Specifies the property number " + i);
+
+            if (i % 2 == 0) {
+                p.setValue("\"quoted\", value\\" + i);
+            } else {
+                p.setValue(new String[]{"a,b", "c\"d", String.valueOf(i)});
+            }
+
+            b.put(p.build());
+        }
+
+        Configuration cfg = b.build();
+
+        assertDoesNotThrow(() -> cfg.write(CSV));
+
+        cfg.get("property-0").setValue("changed");
+        cfg.get("property-9").setValue(new String[0]);
+
+        // Quotes, separators and escapes are split once, on each line
+        assertDoesNotThrow(() -> cfg.read(CSV));
+
+        assertEquals("\"quoted\", value\\0", cfg.get("property-0").getValue().asString());
+        assertArrayEquals(new String[]{"a,b", "c\"d", "9"}, cfg.get("property-9").getValue().asStringArray());
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    @Test
+    void readUnicodeCSV() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-unicode.csv").
+                put(new Property.Builder().
+                        setKey("language").
+                        setValue("Français, 日本語").
+                        setDescription("Spécifie la langue").
+                        build()).
+                put(new Property.Builder().
+                        setKey("currencies").
+                        setValue(new String[]{"€", "£", "\uD83D\uDCB0"}).
+                        setDescription("Sets the accepted currencies").
+                        build()).
+                build();
+
+        assertDoesNotThrow(() -> cfg.write(CSV));
+
+        cfg.get("language").setValue("EN");
+        cfg.get("currencies").setValue(new String[0]);
+
+        // Decoded as UTF-8, whatever the platform charset is
+        assertDoesNotThrow(() -> cfg.read(CSV));
+
+        assertEquals("Français, 日本語", cfg.get("language").getValue().asString());
+        assertArrayEquals(new String[]{"€", "£", "\uD83D\uDCB0"}, cfg.get("currencies").getValue().asStringArray());
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    @Test
+    void readParallelCSV() {
+
+        List<Configuration> configurations = new ArrayList<>();
+
+        for (int i = 0; i < 16; i++) {
+            configurations.add(new Configuration.Builder().
+                    setName("ConfigurationTest-" + i).
+                    setVersion("1.0.0").
+                    setPathname("./").
+                    setFilename("tiny-configuration-parallel-" + i + ".csv").
+                    put(new Property.Builder().
+                            setKey("user").
+                            setValue("root-" + i).
+                            setDescription("Sets the username required to open the application's database").
+                            build()).
+                    put(new Property.Builder().
+                            setKey("special-digits").
+                            setValue(new int[]{i, i + 1}).
+                            setDescription("Specifies the seed special numbers").
+                            build()).
+                    build());
+        }
+
+        configurations.parallelStream().forEach(cfg -> assertDoesNotThrow(() -> cfg.write(CSV)));
+
+        for (Configuration cfg : configurations) {
+            cfg.get("user").setValue("ruut");
+            cfg.get("special-digits").setValue(new int[0]);
+        }
+
+        // The same reader is shared, so each read must not see anything from the others
+        configurations.parallelStream().forEach(cfg -> assertDoesNotThrow(() -> cfg.read(CSV)));
+
+        for (int i = 0; i < configurations.size(); i++) {
+            Configuration cfg = configurations.get(i);
+            assertEquals("root-" + i, cfg.get("user").getValue().asString());
+            assertArrayEquals(new int[]{i, i + 1}, cfg.get("special-digits").getValue().asIntArray());
+            assertDoesNotThrow(cfg::delete);
+        }
+
+    }
+
     @Test
     void readAsyncCSV() {
 
@@ -202,4 +324,40 @@ public class CsvTest {
 
     }
 
+    @Test
+    void executorCSV() {
+
+        ExecutorService pool = IOExecutors.newBounded(1);
+        AtomicInteger tasks = new AtomicInteger();
+
+        // Counting the tasks submitted to the dedicated pool
+        Executor executor = r -> {
+            tasks.incrementAndGet();
+            pool.execute(r);
+        };
+
+        try {
+
+            // Writing and reading on the given executor
+            assertDoesNotThrow(() -> instance.writeAsync(CSV, executor).get());
+            assertDoesNotThrow(() -> instance.readAsync(CSV, executor).get());
+            // Deleting on the given executor
+            assertDoesNotThrow(() -> instance.deleteAsync(executor).get());
+
+            assertEquals(3, tasks.get());
+            assertFalse(instance.exist());
+
+        } finally {
+            pool.shutdown();
+        }
+
+        // The null executor is not allowed
+        assertThrows(NullPointerException.class, () -> instance.writeAsync(CSV, null));
+
+        // Virtual threads are available only on newer JVM
+        if (!IOExecutors.isVirtualAvailable())
+            assertThrows(UnsupportedOperationException.class, IOExecutors::newVirtualPerTask);
+
+    }
+
 }
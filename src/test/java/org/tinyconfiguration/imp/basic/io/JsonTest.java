@@ -3,10 +3,35 @@ package org.tinyconfiguration.imp.basic.io;
 import org.junit.jupiter.api.Test;
 import org.tinyconfiguration.imp.basic.Configuration;
 import org.tinyconfiguration.imp.basic.Property;
-
+import org.tinyconfiguration.imp.basic.ex.configuration.MissingConfigurationIdentifiersException;
+import org.tinyconfiguration.imp.basic.ex.property.DuplicatedConfigurationPropertyException;
+import org.tinyconfiguration.imp.basic.ex.property.InvalidConfigurationPropertyException;
+import org.tinyconfiguration.imp.basic.ex.property.MalformedConfigurationPropertyException;
+import org.tinyconfiguration.imp.basic.ex.property.MissingConfigurationPropertyException;
+import org.tinyconfiguration.imp.basic.ex.property.UnknownConfigurationPropertyException;
+
+import javax.json.Json;
+import javax.json.JsonReader;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.tinyconfiguration.abc.utils.FormatType.JSON;
 
 class JsonTest {
@@ -14,12 +39,17 @@ class JsonTest {
     private final Configuration instance;
 
     public JsonTest() {
+        this.instance = configuration(Configuration.Engine.DOM);
+    }
+
+    private static Configuration configuration(Configuration.Engine engine) {
 
         Configuration.Builder b = new Configuration.Builder().
                 setName("ConfigurationTest").
                 setVersion("1.0.0").
                 setPathname("./").
-                setFilename("tiny-configuration.json");
+                setFilename("tiny-configuration.json").
+                setEngine(engine);
 
         b.put(new Property.Builder().
                 setKey("language").
@@ -75,8 +105,7 @@ class JsonTest {
                 setDescription("Specifies the seed special numbers").
                 build());
 
-        this.instance = b.build();
-
+        return b.build();
     }
 
     @Test
@@ -144,6 +173,580 @@ class JsonTest {
 
 }
 
+    @Test
+    void readIndexedJSON() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-indexed.json").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                put(new Property.Builder().
+                        setKey("password").
+                        setValue("toor").
+                        setDescription("Sets the password required to open the application's database").
+                        build()).
+                build();
+
+        // A duplicated property must be detected while indexing
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("{\"name\":\"ConfigurationTest\",\"version\":\"1.0.0\",\"properties\":[" +
+                        "{\"user\":\"ruut\",\"description\":\"...\"}," +
+                        "{\"user\":\"toor\",\"description\":\"...\"}]}");
+            }
+        });
+
+        assertThrows(DuplicatedConfigurationPropertyException.class, () -> cfg.read(JSON));
+
+        // Same thing for any key which was not declared
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("{\"name\":\"ConfigurationTest\",\"version\":\"1.0.0\",\"properties\":[" +
+                        "{\"username\":\"ruut\",\"description\":\"...\"}]}");
+            }
+        });
+
+        assertThrows(UnknownConfigurationPropertyException.class, () -> cfg.read(JSON));
+
+        // Every entry must be an object, on both engines
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("{\"name\":\"ConfigurationTest\",\"version\":\"1.0.0\",\"properties\":[" +
+                        "\"user\",{\"password\":\"toor\",\"description\":\"...\"}]}");
+            }
+        });
+
+        Configuration stream = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-indexed.json").
+                setEngine(Configuration.Engine.STREAM).
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                build();
+
+        assertThrows(MalformedConfigurationPropertyException.class, () -> cfg.read(JSON));
+        assertThrows(MalformedConfigurationPropertyException.class, () -> stream.read(JSON));
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    @Test
+    void readAtomicJSON() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-atomic.json").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                put(new Property.Builder().
+                        setKey("port").
+                        setValue(80).
+                        setInPlace(true).
+                        setValidator(property -> property.getValue().asInt() > 0).
+                        setDescription("Sets the port of the application's database").
+                        build()).
+                build();
+
+        // The second property is not valid
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("{\"name\":\"ConfigurationTest\",\"version\":\"1.0.0\",\"properties\":[" +
+                        "{\"user\":\"admin\",\"description\":\"...\"}," +
+                        "{\"port\":-1,\"description\":\"...\"}]}");
+            }
+        });
+
+        assertThrows(InvalidConfigurationPropertyException.class, () -> cfg.read(JSON));
+
+        // Nothing was published
+        assertEquals("root", cfg.get("user").getValue().asString());
+        assertEquals(80, cfg.get("port").getValue().asInt());
+
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("{\"name\":\"ConfigurationTest\",\"version\":\"1.0.0\",\"properties\":[" +
+                        "{\"user\":\"admin\",\"description\":\"...\"}," +
+                        "{\"port\":8080,\"description\":\"...\"}]}");
+            }
+        });
+
+        // Readers only observe published values while reloading
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean torn = new AtomicBoolean(false);
+
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+
+                String user = cfg.get("user").getValue().asString();
+                int port = cfg.get("port").getValue().asInt();
+
+                if (!(user.equals("root") || user.equals("admin")) || !(port == 80 || port == 8080))
+                    torn.set(true);
+
+            }
+        });
+
+        reader.start();
+
+        try {
+            for (int i = 0; i < 50; i++) {
+                assertDoesNotThrow(() -> cfg.read(JSON));
+            }
+        } finally {
+            running.set(false);
+        }
+
+        assertDoesNotThrow(() -> reader.join());
+        assertFalse(torn.get());
+
+        assertEquals("admin", cfg.get("user").getValue().asString());
+        assertEquals(8080, cfg.get("port").getValue().asInt());
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    @Test
+    void readStreamJSON() {
+
+        // Does it exists?
+        if (!instance.exist()) {
+
+            // If so, let's executing the writing task
+            assertDoesNotThrow(() -> instance.write(JSON));
+
+            // Now, it should exists
+            assertTrue(instance.exist());
+
+        }
+
+        // Now, reading the configuration instance without building the tree
+        Configuration stream = configuration(Configuration.Engine.STREAM);
+
+        stream.get("user").setValue("ruut");
+        stream.get("hex-digits").setValue(new String[]{"ffff"});
+        stream.get("auto-update-reminder").setValue(10);
+
+        assertDoesNotThrow(() -> stream.read(JSON));
+
+        assertEquals("root", stream.get("user").getValue().asString());
+        assertArrayEquals(new String[]{"332a", "4f2e", "f0be", "cac2"}, stream.get("hex-digits").getValue().asStringArray());
+        assertEquals(5, stream.get("auto-update-reminder").getValue().asInt());
+
+    }
+
+    @Test
+    void writeStreamJSON() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-stream.json").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("\"root\"\n\\ admin").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                put(new Property.Builder().
+                        setKey("threshold").
+                        setValue(2.5).
+                        setDescription("Sets the requests threshold").
+                        build()).
+                put(new Property.Builder().
+                        setKey("hex-digits").
+                        setValue(new String[]{"332a", "4f2e", "f0be", "cac2"}).
+                        setDescription("Specifies the seed numbers").
+                        build()).
+                put(new Property.Builder().
+                        setKey("special-digits").
+                        setValue(new long[]{Long.MAX_VALUE, 0}).
+                        setDescription("Specifies the seed special numbers").
+                        build()).
+                build();
+
+        // Both engines produce the same document
+        try (JsonReader reader = Json.createReader(new StringReader(HandlerJSON.STREAM_WRITER.toObject(cfg)))) {
+            assertEquals(HandlerJSON.WRITER.toObject(cfg), reader.readObject());
+        }
+
+        assertDoesNotThrow(() -> cfg.write(JSON));
+
+        // The document starts right away, without the leading line separator
+        assertDoesNotThrow(() -> assertEquals('{', Files.readAllBytes(cfg.getFile().toPath())[0]));
+
+        // Modifying the instance
+        cfg.get("user").setValue("ruut");
+        cfg.get("threshold").setValue(1.0);
+        cfg.get("special-digits").setValue(new long[0]);
+
+        assertDoesNotThrow(() -> cfg.read(JSON));
+
+        assertEquals("\"root\"\n\\ admin", cfg.get("user").getValue().asString());
+        assertEquals(2.5, cfg.get("threshold").getValue().asDouble());
+        assertArrayEquals(new long[]{Long.MAX_VALUE, 0}, cfg.get("special-digits").getValue().asLongArray());
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    @Test
+    void writeAtomicJSON() throws IOException {
+
+        Path directory = Files.createTempDirectory("tiny-configuration-atomic");
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname(directory.toString()).
+                setFilename("tiny-configuration.json").
+                setDurable(true).
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                build();
+
+        try {
+
+            // Replacing an existing file, with both engines
+            assertDoesNotThrow(() -> cfg.write(JSON));
+            cfg.get("user").setValue("admin");
+            assertDoesNotThrow(() -> HandlerJSON.STREAM_WRITER.write(cfg));
+
+            // The temporary file was renamed
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(Collections.singletonList(cfg.getFile().toPath().getFileName()),
+                        files.map(Path::getFileName).collect(Collectors.toList()));
+            }
+
+            cfg.get("user").setValue("root");
+            assertDoesNotThrow(() -> cfg.read(JSON));
+            assertEquals("admin", cfg.get("user").getValue().asString());
+
+        } finally {
+            Files.deleteIfExists(cfg.getFile().toPath());
+            Files.deleteIfExists(directory);
+        }
+
+    }
+
+    @Test
+    void writeAtomicPermissionsJSON() throws IOException {
+
+        Path directory = Files.createTempDirectory("tiny-configuration-permissions");
+
+        // Only POSIX file systems have permissions
+        assumeTrue(Files.getFileAttributeView(directory, PosixFileAttributeView.class) != null);
+
+        Path real = directory.resolve("tiny-configuration-real.json");
+        Path link = directory.resolve("tiny-configuration.json");
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname(directory.toString()).
+                setFilename("tiny-configuration.json").
+                put(new Property.Builder().
+                        setKey("password").
+                        setValue("toor").
+                        setDescription("Sets the password required to open the application's database").
+                        build()).
+                build();
+
+        try {
+
+            Set<PosixFilePermission> owner = PosixFilePermissions.fromString("rw-------");
+
+            Files.createFile(real);
+            Files.setPosixFilePermissions(real, owner);
+            Files.createSymbolicLink(link, real.getFileName());
+
+            assertDoesNotThrow(() -> cfg.write(JSON));
+            cfg.get("password").setValue("admin");
+            assertDoesNotThrow(() -> HandlerJSON.STREAM_WRITER.write(cfg));
+
+            // The link still points to the file, which kept its permissions
+            assertTrue(Files.isSymbolicLink(link));
+            assertEquals(owner, Files.getPosixFilePermissions(real));
+
+            cfg.get("password").setValue("toor");
+            assertDoesNotThrow(() -> cfg.read(JSON));
+            assertEquals("admin", cfg.get("password").getValue().asString());
+
+        } finally {
+            Files.deleteIfExists(link);
+            Files.deleteIfExists(real);
+            Files.deleteIfExists(directory);
+        }
+
+    }
+
+    @Test
+    void writeIfChangedJSON() throws IOException {
+
+        Path directory = Files.createTempDirectory("tiny-configuration-digest");
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname(directory.toString()).
+                setFilename("tiny-configuration.json").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                build();
+
+        Path file = cfg.getFile().toPath();
+
+        try {
+
+            // Missing, then the same content
+            assertTrue(cfg.writeIfChanged(JSON));
+            FileTime modified = Files.getLastModifiedTime(file);
+            assertFalse(cfg.writeIfChanged(JSON));
+            assertEquals(modified, Files.getLastModifiedTime(file));
+
+            // The value changed
+            cfg.get("user").setValue("ruut");
+            assertTrue(cfg.writeIfChanged(JSON));
+
+            // Written without comparison, the file on disk is hashed
+            assertDoesNotThrow(() -> cfg.write(JSON));
+            assertFalse(cfg.writeIfChanged(JSON));
+
+            // Changed by someone else, with the same length
+            Files.write(file, new String(Files.readAllBytes(file), StandardCharsets.UTF_8).replace("ruut", "root").getBytes(StandardCharsets.UTF_8));
+            assertTrue(cfg.writeIfChanged(JSON));
+
+            cfg.get("user").setValue("root");
+            assertDoesNotThrow(() -> cfg.read(JSON));
+            assertEquals("ruut", cfg.get("user").getValue().asString());
+
+            // No temporary file is left behind
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(1, files.count());
+            }
+
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+
+    }
+
+    @Test
+    void readStreamMissingJSON() {
+
+        Configuration partial = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-missing.json").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("ruut").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                build();
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-missing.json").
+                setEngine(Configuration.Engine.STREAM).
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                put(new Property.Builder().
+                        setKey("password").
+                        setValue("toor").
+                        setDescription("Sets the password required to open the application's database").
+                        build()).
+                build();
+
+        assertDoesNotThrow(() -> partial.write(JSON));
+
+        // The missing property is found only at the end, when every other one was already decoded
+        assertThrows(MissingConfigurationPropertyException.class, () -> cfg.read(JSON));
+        assertEquals("root", cfg.get("user").getValue().asString());
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    @Test
+    void readStreamHeaderLastJSON() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-header.json").
+                setEngine(Configuration.Engine.STREAM).
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                build();
+
+        // The header can follow the properties, as the tree reader already allows
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("{\"properties\":[{\"user\":\"ruut\",\"description\":\"...\"}]," +
+                        "\"name\":\"ConfigurationTest\",\"version\":\"1.0.0\"}");
+            }
+        });
+
+        assertDoesNotThrow(() -> cfg.read(JSON));
+        assertEquals("ruut", cfg.get("user").getValue().asString());
+
+        // Still, it must be verified once the object is closed
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("{\"properties\":[{\"user\":\"ruut\",\"description\":\"...\"}]," +
+                        "\"name\":\"ConfigurationTest\"}");
+            }
+        });
+
+        assertThrows(MissingConfigurationIdentifiersException.class, () -> cfg.read(JSON));
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    @Test
+    void readMalformedArrayJSON() {
+
+        String[] values = {"[1.9]", "[3000000000]", "[\"a\"]", "[128]", "[32768]"};
+
+        for (Configuration.Engine engine : Configuration.Engine.values()) {
+
+            Configuration cfg = new Configuration.Builder().
+                    setName("ConfigurationTest").
+                    setVersion("1.0.0").
+                    setPathname("./").
+                    setFilename("tiny-configuration-arrays.json").
+                    setEngine(engine).
+                    put(new Property.Builder().
+                            setKey("bytes").
+                            setValue(new byte[0]).
+                            setDescription("...").
+                            build()).
+                    put(new Property.Builder().
+                            setKey("shorts").
+                            setValue(new short[0]).
+                            setDescription("...").
+                            build()).
+                    put(new Property.Builder().
+                            setKey("ints").
+                            setValue(new int[0]).
+                            setDescription("...").
+                            build()).
+                    build();
+
+            for (String key : new String[]{"bytes", "shorts", "ints"}) {
+                for (String value : values) {
+
+                    // Only the values which fit exactly inside the array type are accepted
+                    boolean fits = (value.equals("[128]") && !key.equals("bytes")) ||
+                            (value.equals("[32768]") && key.equals("ints"));
+
+                    assertDoesNotThrow(() -> {
+                        try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                            bw.write(("{\"name\":\"ConfigurationTest\",\"version\":\"1.0.0\",\"properties\":[" +
+                                    "{\"bytes\":[],\"description\":\"...\"}," +
+                                    "{\"shorts\":[],\"description\":\"...\"}," +
+                                    "{\"ints\":[],\"description\":\"...\"}]}").replace("\"" + key + "\":[]", "\"" + key + "\":" + value));
+                        }
+                    });
+
+                    if (fits)
+                        assertDoesNotThrow(() -> cfg.read(JSON));
+                    else
+                        assertThrows(MalformedConfigurationPropertyException.class, () -> cfg.read(JSON), engine + " " + key + " " + value);
+                }
+            }
+
+            assertDoesNotThrow(cfg::delete);
+        }
+    }
+
+    @Test
+    void readUnicodeJSON() {
+
+        // Multi-byte characters crossing the chunk boundaries
+        StringBuilder small = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            small.append("è€\uD83D\uDE00");
+        }
+
+        // Large enough to be mapped
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            large.append("ñ€\uD83D\uDE00");
+        }
+
+        for (String text : new String[]{small.toString(), large.toString()}) {
+
+            Configuration cfg = new Configuration.Builder().
+                    setName("ConfigurationTest").
+                    setVersion("1.0.0").
+                    setPathname("./").
+                    setFilename("tiny-configuration-unicode.json").
+                    put(new Property.Builder().
+                            setKey("text").
+                            setValue(text).
+                            setDescription("Sets a text full of multi-byte characters").
+                            build()).
+                    build();
+
+            assertDoesNotThrow(() -> cfg.write(JSON));
+
+            cfg.get("text").setValue("changed");
+            assertDoesNotThrow(() -> cfg.read(JSON));
+            assertEquals(text, cfg.get("text").getValue().asString());
+
+            Configuration stream = new Configuration.Builder().
+                    setName("ConfigurationTest").
+                    setVersion("1.0.0").
+                    setPathname("./").
+                    setFilename("tiny-configuration-unicode.json").
+                    setEngine(Configuration.Engine.STREAM).
+                    put(new Property.Builder().
+                            setKey("text").
+                            setValue("changed").
+                            setDescription("Sets a text full of multi-byte characters").
+                            build()).
+                    build();
+
+            assertDoesNotThrow(() -> stream.read(JSON));
+            assertEquals(text, stream.get("text").getValue().asString());
+
+            assertDoesNotThrow(cfg::delete);
+        }
+
+    }
+
     @Test
     void readAsyncJSON() {
 
@@ -3,6 +3,7 @@ package org.tinyconfiguration.imp.basic.io;
 import org.junit.jupiter.api.Test;
 import org.tinyconfiguration.imp.basic.Configuration;
 import org.tinyconfiguration.imp.basic.Property;
+import org.tinyconfiguration.imp.basic.ex.property.MissingConfigurationPropertyException;
 
 import java.util.concurrent.Future;
 
@@ -113,6 +114,81 @@ class XmlTest {
 
     }
 
+    @Test
+    void streamXML() {
+
+        Configuration cfg = stream(Configuration.Engine.STREAM);
+
+        assertDoesNotThrow(() -> cfg.write(XML));
+
+        // Modifying the instance
+        cfg.get("user").setValue("ruut");
+        cfg.get("hex-digits").setValue(new String[]{"ffff"});
+        cfg.get("special-digits").setValue(new int[]{10, 15});
+
+        // Now, reading the configuration instance as it streams by
+        assertDoesNotThrow(() -> cfg.read(XML));
+
+        assertEquals("<root> & \"co\"", cfg.get("user").getValue().asString());
+        assertArrayEquals(new String[]{"332a", "4f2e", "f0be", "cac2"}, cfg.get("hex-digits").getValue().asStringArray());
+        assertArrayEquals(new int[0], cfg.get("special-digits").getValue().asIntArray());
+
+        // Both engines must understand each other
+        Configuration dom = stream(Configuration.Engine.DOM);
+        dom.get("user").setValue("ruut");
+
+        assertDoesNotThrow(() -> dom.read(XML));
+        assertEquals("<root> & \"co\"", dom.get("user").getValue().asString());
+
+        assertDoesNotThrow(() -> dom.write(XML));
+        assertDoesNotThrow(() -> cfg.read(XML));
+
+        // A failed reading changes nothing, even if the missing property comes last
+        Configuration partial = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-stream.xml").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("ruut").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                build();
+
+        assertDoesNotThrow(() -> partial.write(XML));
+
+        assertThrows(MissingConfigurationPropertyException.class, () -> cfg.read(XML));
+        assertEquals("<root> & \"co\"", cfg.get("user").getValue().asString());
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
+    private static Configuration stream(Configuration.Engine engine) {
+        return new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-stream.xml").
+                setEngine(engine).
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("<root> & \"co\"").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                put(new Property.Builder().
+                        setKey("hex-digits").
+                        setValue(new String[]{"332a", "4f2e", "f0be", "cac2"}).
+                        setDescription("Specifies the seed numbers").
+                        build()).
+                put(new Property.Builder().
+                        setKey("special-digits").
+                        setValue(new int[0]).
+                        setDescription("Specifies the seed special numbers").
+                        build()).
+                build();
+    }
+
     @Test
     void readAsyncXML() {
 
@@ -3,7 +3,10 @@ package org.tinyconfiguration.imp.basic.io;
 import org.junit.jupiter.api.Test;
 import org.tinyconfiguration.imp.basic.Configuration;
 import org.tinyconfiguration.imp.basic.Property;
+import org.tinyconfiguration.imp.basic.ex.property.UnknownConfigurationPropertyException;
 
+import java.io.BufferedWriter;
+import java.io.FileWriter;
 import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -113,6 +116,65 @@ class YamlTest {
 
     }
 
+    @Test
+    void readStreamYAML() {
+
+        Configuration cfg = new Configuration.Builder().
+                setName("ConfigurationTest").
+                setVersion("1.0.0").
+                setPathname("./").
+                setFilename("tiny-configuration-stream.yaml").
+                put(new Property.Builder().
+                        setKey("user").
+                        setValue("root").
+                        setDescription("Sets the username required to open the application's database").
+                        build()).
+                put(new Property.Builder().
+                        setKey("hex-digits").
+                        setValue(new String[]{"332a", "4f2e"}).
+                        setDescription("Specifies the seed numbers").
+                        build()).
+                build();
+
+        // Anything following the properties list is not read at all
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("name: ConfigurationTest\n" +
+                        "version: 1.0.0\n" +
+                        "properties:\n" +
+                        "- user: ruut\n" +
+                        "  description: '...'\n" +
+                        "- hex-digits: [f0be, cac2]\n" +
+                        "  description: '...'\n" +
+                        "comment: ignored\n");
+            }
+        });
+
+        assertDoesNotThrow(() -> cfg.read(YAML));
+
+        assertEquals("ruut", cfg.get("user").getValue().asString());
+        assertArrayEquals(new String[]{"f0be", "cac2"}, cfg.get("hex-digits").getValue().asStringArray());
+
+        // Properties are counted while they are read
+        assertDoesNotThrow(() -> {
+            try (BufferedWriter bw = new BufferedWriter(new FileWriter(cfg.getFile()))) {
+                bw.write("name: ConfigurationTest\n" +
+                        "version: 1.0.0\n" +
+                        "properties:\n" +
+                        "- user: ruut\n" +
+                        "  description: '...'\n" +
+                        "- hex-digits: [f0be, cac2]\n" +
+                        "  description: '...'\n" +
+                        "- password: toor\n" +
+                        "  description: '...'\n");
+            }
+        });
+
+        assertThrows(UnknownConfigurationPropertyException.class, () -> cfg.read(YAML));
+
+        assertDoesNotThrow(cfg::delete);
+    }
+
     @Test
     void readAsyncYAML() {
 